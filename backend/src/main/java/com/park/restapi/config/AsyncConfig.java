@@ -1,5 +1,8 @@
 package com.park.restapi.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -8,11 +11,16 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
+@Slf4j
 public class AsyncConfig {
 
     private static final int CORE_POOL_SIZE = 10;
     private static final int MAX_POOL_SIZE = 30;
     private static final int QUEUE_CAPACITY = 20;
+    private static final int EMAIL_POOL_SIZE = 4;
+    private static final int EMAIL_QUEUE_CAPACITY = 8;
+    private static final int WEB_SOCKET_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int WEB_SOCKET_QUEUE_CAPACITY = 1000;
 
     @Bean
     public Executor taskExecutor() {
@@ -21,7 +29,42 @@ public class AsyncConfig {
         executor.setMaxPoolSize(MAX_POOL_SIZE);
         executor.setQueueCapacity(QUEUE_CAPACITY);
         executor.setThreadNamePrefix("Async-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 가득 차면 호출한 스레드가 대신 실행하지 않고 바로 실패
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 메일 아웃박스 발송 전용 스레드풀(동시 SMTP 연결 수 제한)
+    @Bean
+    public Executor emailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(EMAIL_POOL_SIZE);
+        executor.setMaxPoolSize(EMAIL_POOL_SIZE);
+        executor.setQueueCapacity(EMAIL_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("Email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 웹소켓 브로드캐스트 전송 전용 스레드풀
+    // 대기열이 가득 차면 요청/수신 스레드가 대신 전송하지 않도록 그 묶음은 버리고 개수를 센다.
+    @Bean
+    public Executor webSocketExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("websocket.fanout.rejected")
+                .description("전송 대기열이 가득 차서 버린 전송 작업 수")
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(WEB_SOCKET_POOL_SIZE);
+        executor.setMaxPoolSize(WEB_SOCKET_POOL_SIZE);
+        executor.setQueueCapacity(WEB_SOCKET_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("WebSocket-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("웹소켓 전송 대기열 가득 참, 전송 작업 버림 - 대기 : {}", pool.getQueue().size());
+        });
         executor.initialize();
         return executor;
     }
@@ -6,6 +6,7 @@ import com.park.restapi.util.oauth.PrincipalOAuth2UserService;
 import com.park.restapi.util.oauth.SuccessHandler;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -26,6 +27,10 @@ public class SecurityConfig {
     private final FailureHandler failureHandler;
     private final JwtFilter jwtFilter;
 
+    // 액추에이터 전용 포트, 외부에 열지 않는 내부 포트로 운영한다.
+    @Value("${management.server.port}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -43,6 +48,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/authentications/**", "/api/signup", "/api/email-check", "/api/login",
                                 "/oauth2/authorization/kakao", "/login/oauth2/code/kakao", "/ws", "/api/auth/**")
                         .permitAll()
+                        // 모니터링 수집, 액추에이터는 관리 포트에서만 열리므로 그 포트로 들어온 요청만 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort)
+                        .permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/post/**")
                         .hasAnyAuthority("GUEST", "USER", "ADMIN")
                         .requestMatchers("/api/admin/**", "/api/gpt/admin/**", "/api/answers/**")
@@ -1,6 +1,7 @@
 package com.park.restapi.domain.api.controller;
 
 import com.park.restapi.domain.api.dto.request.ApiRequestDTO;
+import com.park.restapi.domain.api.dto.request.ApiRequestHistoryExportFormat;
 import com.park.restapi.domain.api.dto.response.ApiRequestHistoryListResponseDTO;
 import com.park.restapi.domain.api.dto.response.ChatGPTResponseDTO;
 import com.park.restapi.domain.api.service.impl.ApiRequestServiceImpl;
@@ -8,9 +9,15 @@ import com.park.restapi.util.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.YearMonth;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,4 +49,19 @@ public class ApiRequestController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccess(apiRequestHistory, "요청 이력 조회 성공"));
     }
 
+    // API 요청 이력 내보내기(한 달 단위, CSV / NDJSON)
+    @GetMapping("gpt/admin/requests/export")
+    public ResponseEntity<StreamingResponseBody> exportApiRequestHistory(
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(value = "format", defaultValue = "CSV") ApiRequestHistoryExportFormat format) {
+
+        StreamingResponseBody body = apiRequestService.exportApiRequestHistory(month, format);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("api-request-history-" + month + "." + format.getExtension()).build().toString())
+                .body(body);
+    }
+
 }
@@ -1,9 +1,8 @@
 package com.park.restapi.domain.api.dto.request;
 
 import com.park.restapi.domain.api.dto.response.ChatGPTResponseDTO;
-import com.park.restapi.domain.api.entity.ApiRequestHistory;
 import com.park.restapi.domain.api.entity.MethodType;
-import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.api.store.ApiRequestHistoryEvent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -21,17 +20,11 @@ public record ApiRequestDTO(
         @NotBlank(message = "내용을 입력해주세요.")
         String content
 ) {
-    public ApiRequestHistory toEntity(ChatGPTResponseDTO responseDTO, Member member, boolean access) {
+    public ApiRequestHistoryEvent toHistoryEvent(ChatGPTResponseDTO responseDTO, Long memberId, boolean access) {
         String responseContent = null;
         if (responseDTO != null && responseDTO.choices() != null && !responseDTO.choices().isEmpty()) {
             responseContent = responseDTO.choices().get(0).message().content();
         }
-        return ApiRequestHistory.builder()
-                .member(member)
-                .requestStatus(access)
-                .requestContent(content)
-                .methodType(methodType)
-                .responseContent(responseContent)
-                .build();
+        return new ApiRequestHistoryEvent(memberId, access, methodType, content, responseContent);
     }
 }
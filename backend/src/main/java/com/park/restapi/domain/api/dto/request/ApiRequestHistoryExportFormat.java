@@ -0,0 +1,15 @@
+package com.park.restapi.domain.api.dto.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// API 요청 이력 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum ApiRequestHistoryExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -1,6 +1,7 @@
 package com.park.restapi.domain.api.entity;
 
 import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.util.jpa.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,10 +17,16 @@ import java.time.LocalDateTime;
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_api_request_history_request_date", columnList = "request_date"),
+        @Index(name = "idx_api_request_history_member_request_date", columnList = "member_id, request_date")
+})
 public class ApiRequestHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "api_request_history_id")
+    @TableGenerator(name = "api_request_history_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "api_request_history", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,38 @@
+package com.park.restapi.domain.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 유저별 API 요청 누적 집계(이력이 보관 파일로 옮겨져도 유지된다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApiUsageRollup {
+
+    // 유저 ID
+    @Id
+    private Long memberId;
+
+    // 성공한 요청 수(사용한 토큰 수)
+    @Column(nullable = false)
+    private long successCount;
+
+    // 실패한 요청 수
+    @Column(nullable = false)
+    private long failureCount;
+
+    private LocalDateTime lastRequestDate;
+
+    @Builder
+    public ApiUsageRollup(Long memberId, long successCount, long failureCount, LocalDateTime lastRequestDate) {
+        this.memberId = memberId;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.lastRequestDate = lastRequestDate;
+    }
+}
@@ -1,14 +1,25 @@
 package com.park.restapi.domain.api.repository;
 
+import com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO;
 import com.park.restapi.domain.api.entity.ApiRequestHistory;
-import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.api.store.ArchivedApiRequestHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ApiRequestHistoryRepository
         extends JpaRepository<ApiRequestHistory, Long>, ApiRequestHistoryCustomRepository {
@@ -20,8 +31,41 @@ public interface ApiRequestHistoryRepository
     @EntityGraph(attributePaths = {"member"})
     Page<ApiRequestHistory> findAll(Pageable pageable);
 
-    // 유저가 여태 사용했던 모든 토큰의 개수
-    @Query("select count(api.member) from ApiRequestHistory api where api.member = :member")
-    int findByTotalUseToken(@Param("member") Member member);
-  
+    // 유저 이력 집계(락을 잡지 않는 일반 조회)
+    @Query("select new com.park.restapi.domain.api.repository.ApiUsageCounts(" +
+            "coalesce(sum(case when h.requestStatus = true then 1 else 0 end), 0), " +
+            "coalesce(sum(case when h.requestStatus = false then 1 else 0 end), 0), max(h.requestDate)) " +
+            "from ApiRequestHistory h where h.member.id = :memberId")
+    ApiUsageCounts countUsage(@Param("memberId") Long memberId);
+
+    // 가장 오래된 요청 시간
+    @Query("select min(h.requestDate) from ApiRequestHistory h")
+    Optional<LocalDateTime> findOldestRequestDate();
+
+    // 보관할 이력(ID 순서로 끊어서 조회)
+    @Query("select new com.park.restapi.domain.api.store.ArchivedApiRequestHistory(h.id, h.member.id, h.requestDate, " +
+            "h.requestStatus, h.methodType, h.requestContent, h.responseContent) " +
+            "from ApiRequestHistory h where h.requestDate >= :from and h.requestDate < :to and h.id > :afterId order by h.id")
+    List<ArchivedApiRequestHistory> findArchiveChunk(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                     @Param("afterId") Long afterId, Pageable pageable);
+
+    // 보관 파일로 옮긴 이력 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ApiRequestHistory h where h.requestDate >= :from and h.requestDate < :to " +
+            "and h.id > :afterId and h.id <= :untilId")
+    int deleteArchived(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                       @Param("afterId") Long afterId, @Param("untilId") Long untilId);
+
+    // 내보낼 이력(request_date 인덱스 순서로 읽어서 정렬 없이 바로 흘려보낸다)
+    // 트랜잭션 안에서 읽고 닫아야 한다. 엔티티 대신 DTO 로 읽어서 영속성 컨텍스트에 쌓이지 않는다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO(h.member.id, h.requestDate, " +
+            "m.email, h.methodType, h.requestContent, h.responseContent) " +
+            "from ApiRequestHistory h left join h.member m " +
+            "where h.requestDate >= :from and h.requestDate < :to order by h.requestDate, h.id")
+    Stream<ApiRequestHistoryResponseDTO> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,7 @@
+package com.park.restapi.domain.api.repository;
+
+import java.time.LocalDateTime;
+
+// 유저 API 요청 이력 집계 결과
+public record ApiUsageCounts(long successCount, long failureCount, LocalDateTime lastRequestDate) {
+}
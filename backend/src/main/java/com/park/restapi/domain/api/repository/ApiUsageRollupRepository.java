@@ -0,0 +1,29 @@
+package com.park.restapi.domain.api.repository;
+
+import com.park.restapi.domain.api.entity.ApiUsageRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ApiUsageRollupRepository extends JpaRepository<ApiUsageRollup, Long> {
+
+    // 집계 증가(행 잠금은 update 한 번 동안만)
+    @Modifying
+    @Query("update ApiUsageRollup r set r.successCount = r.successCount + :success, r.failureCount = r.failureCount + :failure, " +
+            "r.lastRequestDate = :lastRequestDate where r.memberId = :memberId")
+    int increase(@Param("memberId") Long memberId, @Param("success") long success, @Param("failure") long failure,
+                 @Param("lastRequestDate") LocalDateTime lastRequestDate);
+
+    // 집계가 없는 유저의 집계를 이력에서 만든다.
+    @Modifying
+    @Query("insert into ApiUsageRollup (memberId, successCount, failureCount, lastRequestDate) " +
+            "select h.member.id, sum(case when h.requestStatus = true then 1 else 0 end), " +
+            "sum(case when h.requestStatus = false then 1 else 0 end), max(h.requestDate) " +
+            "from ApiRequestHistory h " +
+            "where not exists (select 1 from ApiUsageRollup r where r.memberId = h.member.id) " +
+            "group by h.member.id")
+    int backfillMissing();
+}
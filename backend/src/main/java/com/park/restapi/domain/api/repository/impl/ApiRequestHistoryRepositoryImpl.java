@@ -4,7 +4,9 @@ import com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO;
 import com.park.restapi.domain.api.repository.ApiRequestHistoryCustomRepository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,10 +24,16 @@ import static com.park.restapi.domain.member.entity.QMember.member;
 @Slf4j
 public class ApiRequestHistoryRepositoryImpl implements ApiRequestHistoryCustomRepository {
 
+    // 이메일 검색 시 한 번에 찾는 최대 유저 수
+    private static final int MAX_EMAIL_MATCHES = 1000;
+    // 검색 조건에 맞는 유저가 없음
+    private static final BooleanExpression NO_MATCH = Expressions.FALSE.isTrue();
+
     private final JPAQueryFactory queryFactory;
 
     // 모든 api 요청 내역 조회
     @Override
+    @Timed(value = "repository.query", histogram = true)
     public Page<ApiRequestHistoryResponseDTO> searchApiRequestHistory(Pageable pageable) {
 
         List<ApiRequestHistoryResponseDTO> results = queryFactory.select(
@@ -48,10 +56,14 @@ public class ApiRequestHistoryRepositoryImpl implements ApiRequestHistoryCustomR
 
     // 검색 조건에 따른 요청 이력 조회
     @Override
+    @Timed(value = "repository.query", histogram = true)
     public Page<ApiRequestHistoryResponseDTO> searchApiRequestHistoryByCondition(Pageable pageable, String searchType,
                                                                                  String keyword) {
 
         BooleanExpression searchCondition = searchCondition(searchType, keyword);
+        if (searchCondition == NO_MATCH) {
+            return Page.empty(pageable);
+        }
 
         List<ApiRequestHistoryResponseDTO> results = queryFactory.select(
                         Projections.constructor(ApiRequestHistoryResponseDTO.class, apiRequestHistory.member.id,
@@ -73,15 +85,24 @@ public class ApiRequestHistoryRepositoryImpl implements ApiRequestHistoryCustomR
         return new PageImpl<>(results, pageable, total);
     }
 
-    // 이메일 검색
-    private BooleanExpression emailContains(String keyword) {
-        return apiRequestHistory.member.email.contains(keyword);
+    // 이메일 검색 : 이메일 유니크 인덱스로 유저 ID 를 먼저 찾고 이력은 (member_id, request_date) 인덱스로 조회
+    // '@' 가 있으면 정확히 일치, 없으면 앞부분 일치
+    private BooleanExpression emailMatches(String keyword) {
+        List<Long> memberIds = queryFactory.select(member.id)
+                .from(member)
+                .where(keyword.contains("@") ? member.email.eq(keyword) : member.email.startsWith(keyword))
+                .limit(MAX_EMAIL_MATCHES)
+                .fetch();
+        if (memberIds.isEmpty()) {
+            return NO_MATCH;
+        }
+        return apiRequestHistory.member.id.in(memberIds);
     }
 
     // 검색 조건 쿼리 생성
     private BooleanExpression searchCondition(String searchType, String keyword) {
         if ("email".equals(searchType)) {
-            return emailContains(keyword);
+            return emailMatches(keyword);
         }
 
         return null;
@@ -0,0 +1,42 @@
+package com.park.restapi.domain.api.scheduler;
+
+import com.park.restapi.domain.api.service.ApiRequestHistoryArchiveService;
+import com.park.restapi.domain.scheduler.service.ExclusiveJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+@Service
+@Slf4j
+public class ApiRequestHistorySchedulerService {
+
+    private static final String ARCHIVE_JOB = "api-history-archive";
+
+    private final ApiRequestHistoryArchiveService apiRequestHistoryArchiveService;
+    private final ExclusiveJobRunner exclusiveJobRunner;
+    private final int retentionMonths;
+
+    public ApiRequestHistorySchedulerService(ApiRequestHistoryArchiveService apiRequestHistoryArchiveService,
+                                             ExclusiveJobRunner exclusiveJobRunner,
+                                             @Value("${api.history.archive.retention-months:6}") int retentionMonths) {
+        this.apiRequestHistoryArchiveService = apiRequestHistoryArchiveService;
+        this.exclusiveJobRunner = exclusiveJobRunner;
+        this.retentionMonths = retentionMonths;
+    }
+
+    // 매월 1일 오전 4시에 보관 기간이 지난 달의 이력을 파일로 옮긴다(여러 서버 중 한 곳에서만 실행).
+    @Scheduled(cron = "0 0 4 1 * *", zone = "Asia/Seoul")
+    public void archiveHistory() {
+        YearMonth cutoff = YearMonth.now(ZoneId.of("Asia/Seoul")).minusMonths(retentionMonths);
+        exclusiveJobRunner.run(ARCHIVE_JOB, Duration.ofHours(2), Duration.ofMinutes(1), () -> {
+            log.info("API 요청 이력 보관 시작 - {} 이전", cutoff);
+            long archived = apiRequestHistoryArchiveService.archiveBefore(cutoff);
+            log.info("API 요청 이력 보관 종료 - 개수 : {}", archived);
+        });
+    }
+}
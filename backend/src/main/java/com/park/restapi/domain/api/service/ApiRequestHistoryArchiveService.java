@@ -0,0 +1,9 @@
+package com.park.restapi.domain.api.service;
+
+import java.time.YearMonth;
+
+public interface ApiRequestHistoryArchiveService {
+
+    // cutoff 이전 달의 이력을 월별 압축 파일로 옮기고 테이블에서 삭제, 옮긴 이력 수 반환
+    long archiveBefore(YearMonth cutoff);
+}
@@ -0,0 +1,13 @@
+package com.park.restapi.domain.api.service;
+
+import com.park.restapi.domain.api.dto.request.ApiRequestHistoryExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.YearMonth;
+
+public interface ApiRequestHistoryExportService {
+
+    // 한 달 동안의 API 요청 이력을 읽는 대로 출력 스트림에 쓴다.
+    long export(YearMonth month, ApiRequestHistoryExportFormat format, OutputStream out) throws IOException;
+}
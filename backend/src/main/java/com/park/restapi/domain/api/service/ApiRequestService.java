@@ -1,8 +1,12 @@
 package com.park.restapi.domain.api.service;
 
 import com.park.restapi.domain.api.dto.request.ApiRequestDTO;
+import com.park.restapi.domain.api.dto.request.ApiRequestHistoryExportFormat;
 import com.park.restapi.domain.api.dto.response.ApiRequestHistoryListResponseDTO;
 import com.park.restapi.domain.api.dto.response.ChatGPTResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.YearMonth;
 
 public interface ApiRequestService {
     // 챗봇 API
@@ -11,4 +15,7 @@ public interface ApiRequestService {
     // API 요청 기록 조회
     ApiRequestHistoryListResponseDTO getApiRequestHistory(int page, String searchType, String keyword);
 
+    // API 요청 기록 내보내기(한 달 단위)
+    StreamingResponseBody exportApiRequestHistory(YearMonth month, ApiRequestHistoryExportFormat format);
+
 }
@@ -0,0 +1,14 @@
+package com.park.restapi.domain.api.service;
+
+import com.park.restapi.domain.api.store.ApiRequestHistoryEvent;
+
+import java.util.List;
+
+public interface ApiUsageService {
+
+    // 저장한 이력만큼 유저별 집계 증가(호출한 트랜잭션에 참여)
+    void recordUsage(List<ApiRequestHistoryEvent> events);
+
+    // 집계가 없는 유저의 집계를 이력에서 생성
+    int backfillRollups();
+}
@@ -0,0 +1,148 @@
+package com.park.restapi.domain.api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.service.ApiRequestHistoryArchiveService;
+import com.park.restapi.domain.api.service.ApiUsageService;
+import com.park.restapi.domain.api.store.ArchivedApiRequestHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 API 요청 이력 보관.
+ * 한 달씩 ID 순서로 끊어 읽어서 gzip NDJSON 파일(api-request-history-yyyy-MM-partNNN.ndjson.gz)로 쓰고,
+ * 파일이 완성된 뒤에 같은 ID 구간을 한 트랜잭션에서 삭제한다.
+ * 이미 있는 파일은 덮어쓰지 않는다. 삭제가 실패했거나 보관한 달에 이력이 늦게 들어오면 다음 실행에서 새 part 파일로 쓰므로,
+ * 여러 part 에 같은 이력이 들어갈 수는 있어도(ID 로 중복 제거) 삭제된 이력이 파일에서 사라지지는 않는다.
+ * 보관 경로는 모든 서버가 함께 쓰는 절대 경로로 설정해야 하고, 설정이 없으면 보관하지 않는다.
+ * 유저별 누적 사용량은 삭제 전에 집계 테이블에 만들어 두므로 이력이 없어져도 유지된다.
+ */
+@Service
+@Slf4j
+public class ApiRequestHistoryArchiveServiceImpl implements ApiRequestHistoryArchiveService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ApiRequestHistoryRepository apiRequestHistoryRepository;
+    private final ApiUsageService apiUsageService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // null 이면 보관하지 않음
+    private final Path archiveDir;
+
+    public ApiRequestHistoryArchiveServiceImpl(ApiRequestHistoryRepository apiRequestHistoryRepository,
+                                               ApiUsageService apiUsageService, ObjectMapper objectMapper,
+                                               PlatformTransactionManager transactionManager,
+                                               @Value("${api.history.archive.dir:}") String archiveDir) {
+        this.apiRequestHistoryRepository = apiRequestHistoryRepository;
+        this.apiUsageService = apiUsageService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveDir = archiveDir.isBlank() ? null : Path.of(archiveDir);
+        if (this.archiveDir != null && !this.archiveDir.isAbsolute()) {
+            throw new IllegalArgumentException("api.history.archive.dir 는 모든 서버가 함께 쓰는 절대 경로여야 합니다 : " + archiveDir);
+        }
+    }
+
+    // cutoff 이전 달의 이력을 월별 압축 파일로 옮기고 테이블에서 삭제
+    @Override
+    public long archiveBefore(YearMonth cutoff) {
+        if (archiveDir == null) {
+            log.warn("API 요청 이력 보관 경로(api.history.archive.dir)가 설정되지 않아 보관하지 않습니다.");
+            return 0;
+        }
+        apiUsageService.backfillRollups();
+
+        long archived = 0;
+        while (true) {
+            Optional<LocalDateTime> oldest = apiRequestHistoryRepository.findOldestRequestDate();
+            if (oldest.isEmpty() || !YearMonth.from(oldest.get()).isBefore(cutoff)) {
+                return archived;
+            }
+            archived += archiveMonth(YearMonth.from(oldest.get()));
+        }
+    }
+
+    private long archiveMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        List<ArchivedRange> ranges = new ArrayList<>();
+        long count = 0;
+        Path file;
+        try {
+            Files.createDirectories(archiveDir);
+            Path tempFile = Files.createTempFile(archiveDir, "api-request-history-" + month + "-", ".tmp");
+            try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+                long afterId = 0;
+                while (true) {
+                    List<ArchivedApiRequestHistory> chunk = apiRequestHistoryRepository.findArchiveChunk(from, to, afterId,
+                            PageRequest.of(0, CHUNK_SIZE));
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    for (ArchivedApiRequestHistory history : chunk) {
+                        out.write(objectMapper.writeValueAsString(history));
+                        out.newLine();
+                    }
+                    long lastId = chunk.get(chunk.size() - 1).id();
+                    ranges.add(new ArchivedRange(afterId, lastId, chunk.size()));
+                    count += chunk.size();
+                    afterId = lastId;
+                }
+            }
+            file = moveToNewPart(tempFile, month);
+        } catch (IOException e) {
+            throw new UncheckedIOException(month + " API 요청 이력 보관 파일 쓰기 실패", e);
+        }
+
+        // 한 트랜잭션에서 삭제, 파일에 쓴 개수와 다르면(쓰는 사이에 들어온 이력) 전부 되돌리고 다음 실행에서 새 part 로 다시 보관한다.
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ArchivedRange range : ranges) {
+                int deleted = apiRequestHistoryRepository.deleteArchived(from, to, range.afterId(), range.untilId());
+                if (deleted != range.count()) {
+                    throw new IllegalStateException(month + " API 요청 이력 삭제 개수 불일치 - 파일 : " + range.count()
+                            + ", 삭제 : " + deleted);
+                }
+            }
+        });
+        log.info("API 요청 이력 보관 완료 - 월 : {}, 개수 : {}, 파일 : {}", month, count, file);
+        return count;
+    }
+
+    // 같은 달의 파일이 이미 있으면 덮어쓰지 않고 다음 part 번호로 옮긴다.
+    private Path moveToNewPart(Path tempFile, YearMonth month) throws IOException {
+        for (int part = 1; ; part++) {
+            Path file = archiveDir.resolve(String.format("api-request-history-%s-part%03d.ndjson.gz", month, part));
+            try {
+                return Files.move(tempFile, file);
+            } catch (FileAlreadyExistsException e) {
+                log.debug("API 요청 이력 보관 파일 있음 - {}", file);
+            }
+        }
+    }
+
+    // 파일에 쓴 ID 구간(이전 ID, 마지막 ID, 개수)
+    private record ArchivedRange(long afterId, long untilId, int count) {
+    }
+}
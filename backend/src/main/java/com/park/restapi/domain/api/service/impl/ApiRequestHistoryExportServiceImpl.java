@@ -0,0 +1,93 @@
+package com.park.restapi.domain.api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.park.restapi.domain.api.dto.request.ApiRequestHistoryExportFormat;
+import com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.service.ApiRequestHistoryExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * API 요청 이력 내보내기.
+ * 결과를 목록으로 모으지 않고 커서에서 한 행씩 읽어 바로 응답에 쓴다.
+ * 버퍼가 찰 때마다 응답으로 나가므로 한 달치를 내보내도 메모리 사용량은 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiRequestHistoryExportServiceImpl implements ApiRequestHistoryExportService {
+
+    private static final String CSV_HEADER = "memberId,requestDate,email,methodType,requestContent,responseContent";
+
+    private final ApiRequestHistoryRepository apiRequestHistoryRepository;
+    private final ObjectMapper objectMapper;
+
+    // 한 달 동안의 API 요청 이력을 읽는 대로 출력 스트림에 쓴다.
+    @Override
+    @Transactional(readOnly = true)
+    public long export(YearMonth month, ApiRequestHistoryExportFormat format, OutputStream out) throws IOException {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        try (Stream<ApiRequestHistoryResponseDTO> histories = apiRequestHistoryRepository.streamForExport(from, to)) {
+            if (format == ApiRequestHistoryExportFormat.CSV) {
+                // 엑셀에서 UTF-8 로 열리도록 BOM 추가
+                writer.write('\uFEFF');
+                writer.write(CSV_HEADER);
+                writer.newLine();
+            }
+
+            Iterator<ApiRequestHistoryResponseDTO> iterator = histories.iterator();
+            while (iterator.hasNext()) {
+                ApiRequestHistoryResponseDTO history = iterator.next();
+                writer.write(format == ApiRequestHistoryExportFormat.CSV ? toCsv(history) : objectMapper.writeValueAsString(history));
+                writer.newLine();
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("API 요청 이력 내보내기 - 월 : {}, 형식 : {}, 개수 : {}", month, format, count);
+        return count;
+    }
+
+    private String toCsv(ApiRequestHistoryResponseDTO history) {
+        return String.join(",",
+                String.valueOf(history.memberId()),
+                String.valueOf(history.requestDate()),
+                csvField(history.email()),
+                String.valueOf(history.methodType()),
+                csvField(history.requestContent()),
+                csvField(history.responseContent()));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다.
+    private String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,14 +1,17 @@
 package com.park.restapi.domain.api.service.impl;
 
 import com.park.restapi.domain.api.dto.request.ApiRequestDTO;
+import com.park.restapi.domain.api.dto.request.ApiRequestHistoryExportFormat;
 import com.park.restapi.domain.api.dto.request.ChatGPTRequestDTO;
 import com.park.restapi.domain.api.dto.request.Message;
 import com.park.restapi.domain.api.dto.response.ApiRequestHistoryListResponseDTO;
 import com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO;
 import com.park.restapi.domain.api.dto.response.ChatGPTResponseDTO;
-import com.park.restapi.domain.api.entity.ApiRequestHistory;
 import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.service.ApiRequestHistoryExportService;
 import com.park.restapi.domain.api.service.ApiRequestService;
+import com.park.restapi.domain.api.store.ApiRequestHistoryEvent;
+import com.park.restapi.domain.api.store.ApiRequestHistoryWriter;
 import com.park.restapi.domain.exception.exception.GPTException;
 import com.park.restapi.domain.exception.exception.MemberException;
 import com.park.restapi.domain.exception.info.GPTExceptionInfo;
@@ -17,6 +20,10 @@ import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.entity.Role;
 import com.park.restapi.domain.member.repository.MemberRepository;
 import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.transaction.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +34,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Semaphore;
@@ -43,11 +52,25 @@ public class ApiRequestServiceImpl implements ApiRequestService {
     private final MemberRepository memberRepository;
     private final ApiRequestHistoryRepository apiRequestHistoryRepository;
     private final JwtService jwtService;
+    private final ApiRequestHistoryWriter apiRequestHistoryWriter;
+    private final ApiRequestHistoryExportService apiRequestHistoryExportService;
+    private final MeterRegistry meterRegistry;
 
     private final Semaphore semaphore = new Semaphore(5);
 
     private static final int DEFAULT_DATA_COUNT = 10;
 
+    // GPT 동시 호출 제한 상태 노출
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("gpt.semaphore.available", semaphore, Semaphore::availablePermits)
+                .description("남은 GPT 동시 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gpt.semaphore.waiting", semaphore, Semaphore::getQueueLength)
+                .description("GPT 호출 대기 스레드 수")
+                .register(meterRegistry);
+    }
+
     // ChatGPT API 호출
     @Override
     @Transactional
@@ -89,18 +112,20 @@ public class ApiRequestServiceImpl implements ApiRequestService {
             ChatGPTResponseDTO chatGPTResponseDTO = restTemplate.postForObject(URL, requestDTO,
                     ChatGPTResponseDTO.class);
 
-            // 응답이 왔다면
-            ApiRequestHistory apiRequestHistory = apiRequestDTO.toEntity(chatGPTResponseDTO, member, true);
-            apiRequestHistoryRepository.save(apiRequestHistory);
-
             member.useToken();
 
+            // 응답이 왔다면 커밋 후 이력 저장(비동기)
+            ApiRequestHistoryEvent historyEvent = apiRequestDTO.toHistoryEvent(chatGPTResponseDTO, member.getId(), true);
+            AfterCommit.run(() -> apiRequestHistoryWriter.enqueue(historyEvent));
+
             return chatGPTResponseDTO;
         } catch (InterruptedException e) {
             throw new GPTException(GPTExceptionInfo.FAIL_INTERRUPTED, e.getMessage());
         } catch (HttpClientErrorException.TooManyRequests e) {
-            ApiRequestHistory entity = apiRequestDTO.toEntity(null, member, false);
-            apiRequestHistoryRepository.save(entity);
+            // 예외로 롤백되더라도 실패 이력은 남긴다.
+            if (member != null) {
+                apiRequestHistoryWriter.enqueue(apiRequestDTO.toHistoryEvent(null, member.getId(), false));
+            }
             throw new GPTException(GPTExceptionInfo.FAIL_REQUEST_GPT, e.getMessage());
         } finally {
             semaphore.release();
@@ -135,6 +160,20 @@ public class ApiRequestServiceImpl implements ApiRequestService {
                 .build();
     }
 
+    // API 요청 기록 내보내기(한 달 단위), 권한은 요청 스레드에서 확인하고 쓰기는 응답 스레드에서 한다.
+    @Override
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportApiRequestHistory(YearMonth month, ApiRequestHistoryExportFormat format) {
+        Member currentMember = getCurrentMember();
+
+        if (!isAdmin(currentMember)) {
+            throw new MemberException(MemberExceptionInfo.USER_NOT_ADMIN,
+                    currentMember.getEmail() + " 유저가 api 요청 이력 내보내기를 시도했습니다.(관리자 아님)");
+        }
+
+        return out -> apiRequestHistoryExportService.export(month, format, out);
+    }
+
     // 현재 로그인 유저 찾기
     private Member getCurrentMember() {
         Long currentUserId = jwtService.getCurrentUserId();
@@ -0,0 +1,69 @@
+package com.park.restapi.domain.api.service.impl;
+
+import com.park.restapi.domain.api.entity.ApiUsageRollup;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.repository.ApiUsageCounts;
+import com.park.restapi.domain.api.repository.ApiUsageRollupRepository;
+import com.park.restapi.domain.api.service.ApiUsageService;
+import com.park.restapi.domain.api.store.ApiRequestHistoryEvent;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApiUsageServiceImpl implements ApiUsageService {
+
+    private final ApiUsageRollupRepository apiUsageRollupRepository;
+    private final ApiRequestHistoryRepository apiRequestHistoryRepository;
+    private final MemberRepository memberRepository;
+
+    // 저장한 이력만큼 유저별 집계, 유저 누적 사용 토큰 수 증가
+    @Override
+    @Transactional
+    public void recordUsage(List<ApiRequestHistoryEvent> events) {
+        // 유저 ID - {성공 수, 실패 수}, 여러 서버가 같은 유저 행을 잠가도 교착되지 않게 ID 순서로 갱신한다.
+        Map<Long, long[]> deltas = new TreeMap<>();
+        for (ApiRequestHistoryEvent event : events) {
+            long[] delta = deltas.computeIfAbsent(event.memberId(), id -> new long[2]);
+            delta[event.requestStatus() ? 0 : 1]++;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((memberId, delta) -> {
+            if (delta[0] > 0) {
+                memberRepository.increaseUsedTokens(memberId, delta[0]);
+            }
+            if (apiUsageRollupRepository.increase(memberId, delta[0], delta[1], now) > 0) {
+                return;
+            }
+
+            // 처음 집계하는 유저 : 이번에 저장한 이력까지 포함해서 이력으로 집계를 만든다(잠그지 않는 조회).
+            ApiUsageCounts counts = apiRequestHistoryRepository.countUsage(memberId);
+            apiUsageRollupRepository.saveAndFlush(ApiUsageRollup.builder()
+                    .memberId(memberId)
+                    .successCount(counts.successCount())
+                    .failureCount(counts.failureCount())
+                    .lastRequestDate(now).build());
+        });
+    }
+
+    // 집계가 없는 유저의 집계를 이력에서 생성
+    @Override
+    @Transactional
+    public int backfillRollups() {
+        int created = apiUsageRollupRepository.backfillMissing();
+        if (created > 0) {
+            log.info("API 사용 집계 생성 - 유저 수 : {}", created);
+        }
+        return created;
+    }
+}
@@ -0,0 +1,23 @@
+package com.park.restapi.domain.api.store;
+
+import com.park.restapi.domain.api.entity.ApiRequestHistory;
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.member.entity.Member;
+
+// 저장 대기 중인 API 요청 이력(엔티티 대신 값만 들고 있어서 요청 트랜잭션과 무관하게 저장할 수 있다)
+public record ApiRequestHistoryEvent(
+        Long memberId,
+        boolean requestStatus,
+        MethodType methodType,
+        String requestContent,
+        String responseContent
+) {
+    public ApiRequestHistory toEntity(Member member) {
+        return ApiRequestHistory.builder()
+                .member(member)
+                .requestStatus(requestStatus)
+                .methodType(methodType)
+                .requestContent(requestContent)
+                .responseContent(responseContent).build();
+    }
+}
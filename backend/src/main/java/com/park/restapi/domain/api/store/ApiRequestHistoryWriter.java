@@ -0,0 +1,186 @@
+package com.park.restapi.domain.api.store;
+
+import com.park.restapi.domain.api.entity.ApiRequestHistory;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.service.ApiUsageService;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청 이력 비동기 저장.
+ * 요청 스레드는 고정 크기 링 버퍼에 넣기만 하고, 쓰기 스레드 하나가 모아서 JDBC 배치로 insert 한다.
+ * 버퍼가 가득 차면 잠깐 기다렸다가 그래도 자리가 없으면 버리고 개수를 기록한다(응답이 이력 저장을 기다리지 않는다).
+ * 종료할 때 남은 이력을 모두 저장하고, 종료 뒤에 들어온 이력(커밋 이후 작업 등)은 넣은 스레드에서 바로 저장한다.
+ */
+@Component
+@Slf4j
+public class ApiRequestHistoryWriter {
+
+    private static final int CAPACITY = 8192;
+    private static final int BATCH_SIZE = 500;
+    private static final long OFFER_TIMEOUT_MILLIS = 10;
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long SHUTDOWN_WAIT_MILLIS = 5000;
+    private static final int MAX_WRITE_ATTEMPTS = 2;
+
+    private final ApiRequestHistoryRepository apiRequestHistoryRepository;
+    private final MemberRepository memberRepository;
+    private final ApiUsageService apiUsageService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate newTransaction;
+
+    private final BlockingQueue<ApiRequestHistoryEvent> buffer = new ArrayBlockingQueue<>(CAPACITY);
+    private volatile boolean running;
+    private Thread writer;
+
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Counter writtenCounter;
+    private Timer batchTimer;
+
+    public ApiRequestHistoryWriter(ApiRequestHistoryRepository apiRequestHistoryRepository, MemberRepository memberRepository,
+                                   ApiUsageService apiUsageService, MeterRegistry meterRegistry,
+                                   PlatformTransactionManager transactionManager) {
+        this.apiRequestHistoryRepository = apiRequestHistoryRepository;
+        this.memberRepository = memberRepository;
+        this.apiUsageService = apiUsageService;
+        this.meterRegistry = meterRegistry;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("api.history.buffer.size", buffer, BlockingQueue::size)
+                .description("저장 대기 중인 API 요청 이력 수")
+                .register(meterRegistry);
+        Gauge.builder("api.history.buffer.remaining", buffer, BlockingQueue::remainingCapacity)
+                .description("API 요청 이력 버퍼 남은 자리")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("api.history.dropped")
+                .description("버퍼가 가득 차서 버린 API 요청 이력 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("api.history.failed")
+                .description("저장에 실패한 API 요청 이력 수")
+                .register(meterRegistry);
+        writtenCounter = Counter.builder("api.history.written")
+                .description("저장한 API 요청 이력 수")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("api.history.batch")
+                .description("API 요청 이력 배치 저장 시간")
+                .register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::drainLoop, "api-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 쓰기 스레드가 버퍼를 비우고 끝나기를 기다린 뒤 남은 이력 저장
+    // 인터럽트하면 진행 중인 JDBC 배치가 끊기므로 running 만 내리고, 쓰기 스레드는 poll 제한 시간마다 확인한다.
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_WAIT_MILLIS);
+
+        int remaining = flushRemaining();
+        log.info("API 요청 이력 저장 종료 - 종료 시 저장 : {}", remaining);
+    }
+
+    // 이력 저장 요청
+    public void enqueue(ApiRequestHistoryEvent event) {
+        if (!running) {
+            write(List.of(event));
+            return;
+        }
+
+        try {
+            if (buffer.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // 넣는 사이에 종료됐으면 쓰기 스레드가 이미 끝났을 수 있으므로 직접 저장한다.
+                if (!running) {
+                    flushRemaining();
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.warn("API 요청 이력 버퍼 가득 참 - 유저 ID : {}, 성공 여부 : {}", event.memberId(), event.requestStatus());
+    }
+
+    // 종료 요청 뒤에도 버퍼가 빌 때까지 저장하고 끝난다.
+    private void drainLoop() {
+        List<ApiRequestHistoryEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !buffer.isEmpty()) {
+            try {
+                ApiRequestHistoryEvent first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 버퍼에 남은 이력을 넣은 스레드에서 저장, 저장한 개수 반환
+    private int flushRemaining() {
+        List<ApiRequestHistoryEvent> remaining = new ArrayList<>(buffer.size());
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += BATCH_SIZE) {
+            write(remaining.subList(from, Math.min(from + BATCH_SIZE, remaining.size())));
+        }
+        return remaining.size();
+    }
+
+    // 한 트랜잭션에서 모아서 insert(hibernate.jdbc.batch_size 단위로 묶여서 나간다), 유저별 집계도 같이 올린다.
+    // 다른 서버와 같은 유저의 집계를 동시에 처음 만들면 실패할 수 있어서 한 번 더 시도한다.
+    void write(List<ApiRequestHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                batchTimer.record(() -> newTransaction.executeWithoutResult(status -> {
+                    List<ApiRequestHistory> histories = new ArrayList<>(events.size());
+                    for (ApiRequestHistoryEvent event : events) {
+                        histories.add(event.toEntity(memberRepository.getReferenceById(event.memberId())));
+                    }
+                    apiRequestHistoryRepository.saveAll(histories);
+                    apiUsageService.recordUsage(events);
+                }));
+                writtenCounter.increment(events.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("API 요청 이력 저장 실패 - 개수 : {}, 시도 : {}, 오류 : {}", events.size(), attempt, e.getMessage());
+            }
+        }
+
+        failedCounter.increment(events.size());
+        log.error("API 요청 이력 최종 저장 실패 - 개수 : {}", events.size());
+    }
+}
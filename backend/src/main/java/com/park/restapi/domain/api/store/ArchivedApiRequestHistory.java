@@ -0,0 +1,17 @@
+package com.park.restapi.domain.api.store;
+
+import com.park.restapi.domain.api.entity.MethodType;
+
+import java.time.LocalDateTime;
+
+// 보관 파일 한 줄(NDJSON)
+public record ArchivedApiRequestHistory(
+        Long id,
+        Long memberId,
+        LocalDateTime requestDate,
+        boolean requestStatus,
+        MethodType methodType,
+        String requestContent,
+        String responseContent
+) {
+}
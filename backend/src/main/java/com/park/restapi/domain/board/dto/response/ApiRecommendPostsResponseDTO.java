@@ -10,6 +10,17 @@ public record ApiRecommendPostsResponseDTO(
         String title,
         String nickname,
         Integer likeCount,
-        Integer viewCount
+        Integer viewCount,
+        boolean isLiked
 ) {
+
+    // 목록 조회 프로젝션용
+    public ApiRecommendPostsResponseDTO(Long postId, MethodType methodType, String title, String nickname,
+                                        Integer likeCount, Integer viewCount) {
+        this(postId, methodType, title, nickname, likeCount, viewCount, false);
+    }
+
+    public ApiRecommendPostsResponseDTO withLiked(boolean isLiked) {
+        return new ApiRecommendPostsResponseDTO(postId, methodType, title, nickname, likeCount, viewCount, isLiked);
+    }
 }
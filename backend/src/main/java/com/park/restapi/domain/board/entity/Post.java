@@ -18,6 +18,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_post_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_post_method_type_id", columnList = "method_type, id")
+})
 public class Post extends BaseTimeEntity {
 
     @Id
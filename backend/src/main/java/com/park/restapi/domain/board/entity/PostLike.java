@@ -2,6 +2,7 @@ package com.park.restapi.domain.board.entity;
 
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.util.BaseTimeEntity;
+import com.park.restapi.util.jpa.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,9 @@ import lombok.NoArgsConstructor;
 public class PostLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_like_id")
+    @TableGenerator(name = "post_like_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "post_like", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,46 @@
+package com.park.restapi.domain.board.entity;
+
+import com.park.restapi.domain.board.store.ScoreDelta;
+import com.park.restapi.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 게시글 인기 점수(TrendingScore 의 로그 점수)
+@Entity
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_post_score_score", columnList = "score")
+})
+public class PostScore extends BaseTimeEntity {
+
+    // 게시글 ID
+    @Id
+    private Long postId;
+
+    // 점수 행은 글과 함께 지워지도록 DB 외래 키(ON DELETE CASCADE)만 건다. 값은 postId 로만 쓴다.
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Builder
+    public PostScore(Long postId, double score) {
+        this.postId = postId;
+        this.score = score;
+    }
+
+    public void apply(ScoreDelta delta) {
+        this.score = delta.applyTo(score);
+    }
+}
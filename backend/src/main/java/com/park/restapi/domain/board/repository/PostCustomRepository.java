@@ -7,4 +7,8 @@ import org.springframework.data.domain.Pageable;
 public interface PostCustomRepository {
 
     Page<ApiRecommendPostsResponseDTO> findRecommendPosts(Pageable pageable, String searchType, String searchKey, String sortBy);
+
+    // 쿼리 한 번으로 페이지 조회(knownTotal 이 null 이면 전체 개수도 같은 쿼리에서 센다)
+    Page<ApiRecommendPostsResponseDTO> findRecommendPostsDeferred(Pageable pageable, String searchType, String searchKey,
+                                                                   String sortBy, Long knownTotal);
 }
@@ -4,7 +4,11 @@ import com.park.restapi.domain.board.entity.Post;
 import com.park.restapi.domain.board.entity.PostLike;
 import com.park.restapi.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -12,4 +16,11 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByMemberAndPost(Member member, Post post);
 
     boolean existsByMemberAndPost(Member member, Post post);
+
+    // 유저가 좋아요 누른 게시글 ID
+    @Query("select pl.post.id from PostLike pl where pl.member.id = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 여러 게시글의 좋아요
+    List<PostLike> findByPostIdIn(Collection<Long> postIds);
 }
@@ -1,12 +1,19 @@
 package com.park.restapi.domain.board.repository;
 
 import com.park.restapi.domain.board.entity.Post;
+import com.park.restapi.domain.board.store.LeaderboardRow;
+import com.park.restapi.domain.board.store.PostCounts;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRepository {
@@ -15,4 +22,23 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRep
     @Query("select p from Post p join fetch p.member where p.id = :id")
     Optional<Post> findByIdWriteLockFetchJoinMember(@Param("id") Long id);
 
+    @Query("select p from Post p join fetch p.member where p.id = :id")
+    Optional<Post> findByIdFetchJoinMember(@Param("id") Long id);
+
+    // 모인 조회수 반영(조회 없이 update 한 번)
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + :delta where p.id = :id")
+    int increaseViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 좋아요, 조회수만 조회
+    @Query("select new com.park.restapi.domain.board.store.PostCounts(p.id, p.likeCount, p.viewCount) " +
+            "from Post p where p.id in :ids")
+    List<PostCounts> findCounts(@Param("ids") Collection<Long> ids);
+
+    // 좋아요순 상위 목록(like_count, id 인덱스 역순 스캔)
+    @Query("select new com.park.restapi.domain.board.store.LeaderboardRow(p.id, p.methodType, p.title, m.nickname, p.likeCount, p.viewCount) " +
+            "from Post p left join p.member m order by p.likeCount desc, p.id desc")
+    List<LeaderboardRow> findTopLiked(Pageable pageable);
+
 }
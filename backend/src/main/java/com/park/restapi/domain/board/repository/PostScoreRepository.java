@@ -0,0 +1,31 @@
+package com.park.restapi.domain.board.repository;
+
+import com.park.restapi.domain.board.entity.PostScore;
+import com.park.restapi.domain.board.store.PostScoreSeed;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostScoreRepository extends JpaRepository<PostScore, Long> {
+
+    // 여러 서버가 같은 점수를 합치므로 잠그고 조회(ID 순서로 잠가서 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from PostScore s where s.postId in :postIds order by s.postId")
+    List<PostScore> findAllForUpdate(@Param("postIds") Collection<Long> postIds);
+
+    // 주어진 ID 중 점수 행이 없는 글 ID, 지워진 글은 빠진다.
+    @Query("select p.id from Post p where p.id in :postIds " +
+            "and not exists (select s.postId from PostScore s where s.postId = p.id)")
+    List<Long> findPostIdsWithoutScore(@Param("postIds") Collection<Long> postIds);
+
+    // 점수 행이 없는 글(점수 도입 전에 작성된 글), ID 순서
+    @Query("select new com.park.restapi.domain.board.store.PostScoreSeed(p.id, p.createdDate, p.viewCount) from Post p " +
+            "where p.id > :afterId and not exists (select s.postId from PostScore s where s.postId = p.id) order by p.id")
+    List<PostScoreSeed> findSeedsWithoutScore(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -6,7 +6,11 @@ import com.park.restapi.domain.board.repository.PostCustomRepository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,9 +18,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.park.restapi.domain.board.entity.QPost.post;
+import static com.park.restapi.domain.board.entity.QPostScore.postScore;
 import static com.park.restapi.domain.member.entity.QMember.member;
 
 @RequiredArgsConstructor
@@ -24,41 +30,98 @@ import static com.park.restapi.domain.member.entity.QMember.member;
 @Slf4j
 public class PostRepositoryImpl implements PostCustomRepository {
 
+    private static final String TRENDING = "trending";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     // 첫 페이지부터 데이터 가져오기
     @Override
+    @Timed(value = "repository.query", histogram = true)
     public Page<ApiRecommendPostsResponseDTO> findRecommendPosts(Pageable pageable, String searchType, String searchKey, String sortBy) {
 
         OrderSpecifier<?>[] orderSpecifier = getOrderSpecifier(sortBy);
 
-        List<Long> postIds = queryFactory
+        List<Long> postIds = joinScore(queryFactory
                 .select(post.id)
-                .from(post)
+                .from(post), sortBy)
                 .where(searchCondition(searchType, searchKey))
                 .orderBy(orderSpecifier)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        List<ApiRecommendPostsResponseDTO> apiRecommendPostsResponseDTOS = queryFactory
+        List<ApiRecommendPostsResponseDTO> apiRecommendPostsResponseDTOS = joinScore(queryFactory
                 .select(Projections.constructor(ApiRecommendPostsResponseDTO.class,
                         post.id, post.methodType, post.title, member.nickname, post.likeCount, post.viewCount))
                 .from(post)
-                .leftJoin(post.member, member)
+                .leftJoin(post.member, member), sortBy)
                 .where(post.id.in(postIds))
                 .orderBy(orderSpecifier)
                 .fetch();
 
-        long total = queryFactory
+        long total = joinScore(queryFactory
                 .select(post.count())
-                .from(post)
+                .from(post), sortBy)
                 .where(searchCondition(searchType, searchKey))
                 .fetchOne();
 
         return new PageImpl<>(apiRecommendPostsResponseDTOS, pageable, total);
     }
 
+    // 지연 조인 : 정렬 키 인덱스만 읽는 서브쿼리로 페이지의 ID 를 고른 뒤 그 ID 로만 본문을 조인한다.
+    // ID 조회와 본문 조회가 한 번의 쿼리로 합쳐지고, 서브쿼리는 인덱스 순서로 limit 까지만 읽는다.
+    // 개수는 모를 때만 따로 센다(같은 쿼리에서 count(*) over () 로 세면 조건에 맞는 모든 행을 읽고 정렬한다).
+    @Override
+    @Timed(value = "repository.query", histogram = true)
+    public Page<ApiRecommendPostsResponseDTO> findRecommendPostsDeferred(Pageable pageable, String searchType, String searchKey,
+                                                                          String sortBy, Long knownTotal) {
+        StringBuilder sql = new StringBuilder()
+                .append("select p.id, p.method_type, p.title, m.nickname, p.like_count, p.view_count")
+                .append(" from (select ps.id, ").append(nativeSortKey(sortBy)).append(" as sort_key from post ps");
+        if ("nickname".equals(searchType)) {
+            sql.append(" join member ms on ms.id = ps.member_id");
+        }
+        if (TRENDING.equals(sortBy)) {
+            sql.append(" join post_score ss on ss.post_id = ps.id");
+        }
+        sql.append(nativeSearchCondition(searchType))
+                .append(" order by ").append(nativeSortKey(sortBy)).append(" desc, ps.id desc limit :limit offset :offset) ids")
+                .append(" join post p on p.id = ids.id")
+                .append(" left join member m on m.id = p.member_id")
+                .append(" order by ids.sort_key desc, ids.id desc");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("limit", pageable.getPageSize())
+                .setParameter("offset", pageable.getOffset());
+        bindSearchKey(query, searchType, searchKey);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        List<ApiRecommendPostsResponseDTO> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            content.add(new ApiRecommendPostsResponseDTO(((Number) row[0]).longValue(), MethodType.valueOf((String) row[1]),
+                    (String) row[2], (String) row[3], ((Number) row[4]).intValue(), ((Number) row[5]).intValue()));
+        }
+
+        long total;
+        if (knownTotal != null) {
+            total = knownTotal;
+        } else if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+            // 마지막 페이지면 세지 않아도 개수를 안다.
+            total = pageable.getOffset() + content.size();
+        } else {
+            total = joinScore(queryFactory
+                    .select(post.count())
+                    .from(post), sortBy)
+                    .where(searchCondition(searchType, searchKey))
+                    .fetchOne();
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
     // 동적 검색 쿼리 생성
     private BooleanExpression searchCondition(String searchType, String searchKey) {
         if ("title".equals(searchType)) {
@@ -71,15 +134,59 @@ public class PostRepositoryImpl implements PostCustomRepository {
         return null;
     }
 
+    // 인기순이면 점수 테이블 조인(점수 인덱스 순서로 읽는다)
+    private <T> JPAQuery<T> joinScore(JPAQuery<T> query, String sortBy) {
+        if (TRENDING.equals(sortBy)) {
+            query.join(postScore).on(postScore.postId.eq(post.id));
+        }
+        return query;
+    }
+
     // 정렬 쿼리 생성
     private OrderSpecifier<?>[] getOrderSpecifier(String sortBy) {
         if ("like".equals(sortBy)) {
             return new OrderSpecifier[]{post.likeCount.desc(), post.id.desc()};
+        } else if (TRENDING.equals(sortBy)) {
+            return new OrderSpecifier[]{postScore.score.desc(), post.id.desc()};
         } else {
             return new OrderSpecifier[]{post.id.desc()};
         }
     }
 
+    // 지연 조인 서브쿼리 검색 조건
+    private String nativeSearchCondition(String searchType) {
+        if ("title".equals(searchType)) {
+            return " where ps.title like :searchKey escape '!'";
+        } else if ("nickname".equals(searchType)) {
+            return " where ms.nickname like :searchKey escape '!'";
+        } else if ("methodType".equals(searchType)) {
+            return " where ps.method_type = :searchKey";
+        }
+        return "";
+    }
+
+    private void bindSearchKey(Query query, String searchType, String searchKey) {
+        if ("title".equals(searchType) || "nickname".equals(searchType)) {
+            query.setParameter("searchKey", "%" + escapeLike(searchKey) + "%");
+        } else if ("methodType".equals(searchType)) {
+            query.setParameter("searchKey", MethodType.valueOf(searchKey).name());
+        }
+    }
+
+    // 지연 조인 서브쿼리 정렬 키(각각 (like_count, id), (score) 인덱스, 기본은 PK)
+    private String nativeSortKey(String sortBy) {
+        if ("like".equals(sortBy)) {
+            return "ps.like_count";
+        } else if (TRENDING.equals(sortBy)) {
+            return "ss.score";
+        }
+        return "ps.id";
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     // 제목 검색
     private BooleanExpression titleContains(String keyword) {
         return post.title.contains(keyword);
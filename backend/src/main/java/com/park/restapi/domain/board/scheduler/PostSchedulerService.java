@@ -0,0 +1,42 @@
+package com.park.restapi.domain.board.scheduler;
+
+import com.park.restapi.domain.board.service.PostScoreService;
+import com.park.restapi.domain.scheduler.service.ExclusiveJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSchedulerService {
+
+    private static final String SCORE_BACKFILL_JOB = "post-score-backfill";
+
+    private final PostScoreService postScoreService;
+    private final ExclusiveJobRunner exclusiveJobRunner;
+
+    // 시작 시 점수 행이 없는 글의 인기 점수 생성(인기순 목록은 점수 행이 있는 글만 보여준다, 여러 서버 중 한 곳에서만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillScores() {
+        try {
+            exclusiveJobRunner.run(SCORE_BACKFILL_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), () -> {
+                long chunks = 0;
+                Long afterId = 0L;
+                while ((afterId = postScoreService.backfillScores(afterId)) != null) {
+                    chunks++;
+                }
+                if (chunks > 0) {
+                    log.info("게시글 인기 점수 생성 - 묶음 수 : {}", chunks);
+                }
+            });
+        } catch (Exception e) {
+            // 이미 만든 묶음은 남고, 나머지는 다음 시작 때 다시 만든다.
+            log.error("게시글 인기 점수 생성 중 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.park.restapi.domain.board.service;
+
+import com.park.restapi.domain.board.store.ScoreDelta;
+
+import java.util.Map;
+
+public interface PostScoreService {
+
+    // 새 글 점수 생성(호출한 트랜잭션에 참여)
+    void createScore(Long postId);
+
+    // 쌓인 점수 변화 반영
+    void mergeScores(Map<Long, ScoreDelta> deltas);
+
+    // 점수 행이 없는 글의 점수를 만든다(afterId 다음 글부터 한 묶음), 마지막으로 만든 글 ID 반환, 더 없으면 null
+    Long backfillScores(Long afterId);
+}
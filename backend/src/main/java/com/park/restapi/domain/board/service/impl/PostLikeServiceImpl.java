@@ -5,6 +5,10 @@ import com.park.restapi.domain.board.entity.PostLike;
 import com.park.restapi.domain.board.repository.PostLikeRepository;
 import com.park.restapi.domain.board.repository.PostRepository;
 import com.park.restapi.domain.board.service.PostLikeService;
+import com.park.restapi.domain.board.store.MemberLikedPostCache;
+import com.park.restapi.domain.board.store.PostCounterStore;
+import com.park.restapi.domain.board.store.PostLikeLeaderboard;
+import com.park.restapi.domain.board.store.PostTrendingScores;
 import com.park.restapi.domain.exception.exception.MemberException;
 import com.park.restapi.domain.exception.exception.PostException;
 import com.park.restapi.domain.exception.exception.PostLikeException;
@@ -14,12 +18,15 @@ import com.park.restapi.domain.exception.info.PostLikeExceptionInfo;
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.repository.MemberRepository;
 import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -31,6 +38,11 @@ public class PostLikeServiceImpl implements PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final WebSocketPublisher webSocketPublisher;
+    private final PostCounterStore postCounterStore;
+    private final MemberLikedPostCache memberLikedPostCache;
+    private final PostLikeLeaderboard postLikeLeaderboard;
+    private final PostTrendingScores postTrendingScores;
 
     // 좋아요 누르기
     @Override
@@ -45,21 +57,26 @@ public class PostLikeServiceImpl implements PostLikeService {
             throw new PostLikeException(PostLikeExceptionInfo.DO_NOT_SELF_LIKE, currentMember.getId() + "번 유저가 본인의 게시글 좋아요를 눌렀습니다.");
         }
 
-        if (postLikeRepository.existsByMemberAndPost(currentMember, post)) {
+        // 다른 서버에서 누른 좋아요가 아직 반영되지 않았어도 유니크 키로 막힌다.
+        if (memberLikedPostCache.isLiked(currentMember.getId(), postId)) {
             throw new PostLikeException(PostLikeExceptionInfo.ALREADY_LIKE_POST, "이미 " + postId + "번 게시글 좋아요를 눌렀습니다.");
         }
 
+        PostLike postLike = PostLike.builder()
+                .post(post)
+                .member(currentMember).build();
         try {
-            PostLike postLike = PostLike.builder()
-                    .post(post)
-                    .member(currentMember).build();
-            postLikeRepository.save(postLike);
+            // ID 를 미리 받아 두므로 insert 가 flush 까지 미뤄진다. 중복을 여기서 잡도록 바로 flush
+            postLikeRepository.saveAndFlush(postLike);
 
             post.incrementLikeCount();
         } catch (DataIntegrityViolationException e) {
             throw new PostLikeException(PostLikeExceptionInfo.ALREADY_LIKE_POST, "이미 " + postId + "번 게시글 좋아요를 눌렀습니다.");
         }
 
+        publishLikeCount(post);
+        memberLikedPostCache.addAfterCommit(currentMember.getId(), postId);
+        postTrendingScores.recordLikeAfterCommit(postId, postLike.getCreatedDate());
     }
 
     // 좋아요 취소하기
@@ -68,7 +85,7 @@ public class PostLikeServiceImpl implements PostLikeService {
     public void unlikePost(Long postId) {
         Member currentMember = getCurrentMember();
 
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findByIdFetchJoinMember(postId)
                 .orElseThrow(() -> new PostException(PostExceptionInfo.NOT_FOUND_POST, postId + "번 게시글을 찾지 못했습니다."));
 
         Optional<PostLike> byMemberAndPost = postLikeRepository.findByMemberAndPost(currentMember, post);
@@ -77,9 +94,22 @@ public class PostLikeServiceImpl implements PostLikeService {
         }
 
         // 좋아요 취소
-        postLikeRepository.delete(byMemberAndPost.get());
+        PostLike postLike = byMemberAndPost.get();
+        postLikeRepository.delete(postLike);
 
         post.decrementLikeCount();
+
+        publishLikeCount(post);
+        memberLikedPostCache.removeAfterCommit(currentMember.getId(), postId);
+        postTrendingScores.recordUnlikeAfterCommit(postId, postLike.getCreatedDate());
+    }
+
+    // 게시글 구독자에게 좋아요 수 전송, 카운터에도 반영
+    private void publishLikeCount(Post post) {
+        postCounterStore.setLikeCountAfterCommit(post.getId(), post.getLikeCount());
+        postLikeLeaderboard.updateAfterCommit(post);
+        webSocketPublisher.publishAfterCommit(WebSocketTopic.post(post.getId()), "like",
+                Map.of("postId", post.getId(), "likeCount", post.getLikeCount()));
     }
 
     // 현재 로그인 유저 찾기
@@ -0,0 +1,101 @@
+package com.park.restapi.domain.board.service.impl;
+
+import com.park.restapi.domain.board.entity.PostLike;
+import com.park.restapi.domain.board.entity.PostScore;
+import com.park.restapi.domain.board.repository.PostLikeRepository;
+import com.park.restapi.domain.board.repository.PostScoreRepository;
+import com.park.restapi.domain.board.service.PostScoreService;
+import com.park.restapi.domain.board.store.PostScoreSeed;
+import com.park.restapi.domain.board.store.ScoreDelta;
+import com.park.restapi.domain.board.store.TrendingScore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class PostScoreServiceImpl implements PostScoreService {
+
+    private static final int BACKFILL_CHUNK = 500;
+
+    private final PostScoreRepository postScoreRepository;
+    private final PostLikeRepository postLikeRepository;
+
+    // 새 글 점수 생성
+    @Override
+    @Transactional
+    public void createScore(Long postId) {
+        postScoreRepository.save(PostScore.builder()
+                .postId(postId)
+                .score(TrendingScore.of(TrendingScore.CREATED_WEIGHT, Instant.now())).build());
+    }
+
+    // 쌓인 점수 변화 반영
+    @Override
+    @Transactional
+    public void mergeScores(Map<Long, ScoreDelta> deltas) {
+        Map<Long, ScoreDelta> remaining = new HashMap<>(deltas);
+        for (PostScore postScore : postScoreRepository.findAllForUpdate(deltas.keySet())) {
+            postScore.apply(remaining.remove(postScore.getPostId()));
+        }
+
+        if (remaining.isEmpty()) {
+            return;
+        }
+
+        // 점수 행이 없는 글(점수 도입 전에 작성된 글), 그 사이 지워진 글의 변화는 버린다.
+        List<PostScore> created = new ArrayList<>(remaining.size());
+        for (Long postId : postScoreRepository.findPostIdsWithoutScore(remaining.keySet())) {
+            created.add(PostScore.builder()
+                    .postId(postId)
+                    .score(remaining.get(postId).applyTo(TrendingScore.EMPTY)).build());
+        }
+        postScoreRepository.saveAll(created);
+    }
+
+    // 점수 행이 없는 글의 점수 생성
+    // 작성과 좋아요는 일어난 시각으로 계산하고, 조회수는 언제 올랐는지 모르므로 작성 시각으로 계산한다.
+    @Override
+    @Transactional
+    public Long backfillScores(Long afterId) {
+        List<PostScoreSeed> seeds = postScoreRepository.findSeedsWithoutScore(afterId, PageRequest.of(0, BACKFILL_CHUNK));
+        if (seeds.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Double> scores = new HashMap<>(seeds.size());
+        for (PostScoreSeed seed : seeds) {
+            Instant createdAt = toInstant(seed.createdDate());
+            double score = TrendingScore.of(TrendingScore.CREATED_WEIGHT, createdAt);
+            if (seed.viewCount() > 0) {
+                score = TrendingScore.add(score, TrendingScore.of(TrendingScore.VIEW_WEIGHT * seed.viewCount(), createdAt));
+            }
+            scores.put(seed.postId(), score);
+        }
+        for (PostLike postLike : postLikeRepository.findByPostIdIn(scores.keySet())) {
+            double likeScore = TrendingScore.of(TrendingScore.LIKE_WEIGHT, toInstant(postLike.getCreatedDate()));
+            scores.merge(postLike.getPost().getId(), likeScore, TrendingScore::add);
+        }
+
+        List<PostScore> created = new ArrayList<>(scores.size());
+        scores.forEach((postId, score) -> created.add(PostScore.builder()
+                .postId(postId)
+                .score(score).build()));
+        postScoreRepository.saveAll(created);
+
+        return seeds.get(seeds.size() - 1).postId();
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
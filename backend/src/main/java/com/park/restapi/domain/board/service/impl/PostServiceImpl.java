@@ -6,10 +6,16 @@ import com.park.restapi.domain.board.dto.response.ApiRecommendPostsListResponseD
 import com.park.restapi.domain.board.dto.response.ApiRecommendPostsResponseDTO;
 import com.park.restapi.domain.board.entity.BoardType;
 import com.park.restapi.domain.board.entity.Post;
-import com.park.restapi.domain.board.entity.PostLike;
-import com.park.restapi.domain.board.repository.PostLikeRepository;
 import com.park.restapi.domain.board.repository.PostRepository;
+import com.park.restapi.domain.board.service.PostScoreService;
 import com.park.restapi.domain.board.service.PostService;
+import com.park.restapi.domain.board.store.MemberLikedPostCache;
+import com.park.restapi.domain.board.store.PostBody;
+import com.park.restapi.domain.board.store.PostCounterStore;
+import com.park.restapi.domain.board.store.PostCounterStore.PostCounter;
+import com.park.restapi.domain.board.store.PostDetailCache;
+import com.park.restapi.domain.board.store.PostLikeLeaderboard;
+import com.park.restapi.domain.board.store.PostPageTotalCache;
 import com.park.restapi.domain.exception.exception.MemberException;
 import com.park.restapi.domain.exception.exception.PostException;
 import com.park.restapi.domain.exception.info.MemberExceptionInfo;
@@ -17,24 +23,33 @@ import com.park.restapi.domain.exception.info.PostExceptionInfo;
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.repository.MemberRepository;
 import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.transaction.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PostServiceImpl implements PostService {
 
-    private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostCounterStore postCounterStore;
+    private final MemberLikedPostCache memberLikedPostCache;
+    private final PostLikeLeaderboard postLikeLeaderboard;
+    private final PostScoreService postScoreService;
+    private final PostPageTotalCache postPageTotalCache;
 
     private final static int DEFAULT_DATA_COUNT = 10;
 
@@ -47,6 +62,9 @@ public class PostServiceImpl implements PostService {
         // 게시글 생성
         Post post = apiRecommendPostRequestDTO.toEntity(currentMember, BoardType.SHARE, apiRecommendPostRequestDTO.methodType());
         postRepository.save(post);
+        postScoreService.createScore(post.getId());
+        postLikeLeaderboard.addAfterCommit(post);
+        AfterCommit.run(postPageTotalCache::addPost);
     }
 
     // api 공유게시글 가져오기(페이지네이션)
@@ -55,36 +73,70 @@ public class PostServiceImpl implements PostService {
     public ApiRecommendPostsListResponseDTO getGptApiRecommendPosts(int page, String searchType, String searchKey, String sortBy) {
         PageRequest pageRequest = PageRequest.of(page, DEFAULT_DATA_COUNT);
 
-        Page<ApiRecommendPostsResponseDTO> apiRecommendPostsResponseDTOS = postRepository.findRecommendPosts(pageRequest, searchType, searchKey, sortBy);
+        Page<ApiRecommendPostsResponseDTO> apiRecommendPostsResponseDTOS = findRecommendPosts(pageRequest, searchType, searchKey, sortBy);
 
         return ApiRecommendPostsListResponseDTO.builder()
-                .apiRecommendPostsResponseDTOS(apiRecommendPostsResponseDTOS.getContent())
+                .apiRecommendPostsResponseDTOS(markLiked(apiRecommendPostsResponseDTOS.getContent()))
                 .currentPage(apiRecommendPostsResponseDTOS.getNumber())
                 .totalPages(apiRecommendPostsResponseDTOS.getTotalPages()).build();
     }
 
     // api 특정 공유게시글 가져오기
+    // 본문은 캐시, 좋아요/조회수는 카운터, 좋아요 여부는 유저별 캐시에서 읽어서 자주 보는 글은 DB 를 조회하지 않는다.
     @Override
-    @Transactional
     public ApiRecommendPostResponseDTO getGptApiRecommendPost(Long postId) {
-        Member currentMember = getCurrentMember();
+        Long currentUserId = jwtService.getCurrentUserId();
 
-        System.out.println("들어옴3");
-        Post post = postRepository.findByIdWriteLockFetchJoinMember(postId)
-                .orElseThrow(() -> new PostException(PostExceptionInfo.NOT_FOUND_POST, postId + "번 게시글이 존재하지 않습니다."));
+        PostBody body = postDetailCache.get(postId);
+        PostCounter counter = postCounterStore.get(postId);
+        if (body == null || counter == null) {
+            Post post = postRepository.findByIdFetchJoinMember(postId)
+                    .orElseThrow(() -> new PostException(PostExceptionInfo.NOT_FOUND_POST, postId + "번 게시글이 존재하지 않습니다."));
+            body = PostBody.from(post);
+            postDetailCache.put(body);
+            counter = postCounterStore.getOrInit(postId, post.getLikeCount(), post.getViewCount());
+        }
 
-        post.incrementViewCount();
+        int viewCount = postCounterStore.recordView(counter);
 
         // 좋아요 여부 찾기
-        boolean isLiked = false;
-        if (currentMember != null) {
-            Optional<PostLike> byMemberAndPost = postLikeRepository.findByMemberAndPost(currentMember, post);
-            if (byMemberAndPost.isPresent()) isLiked = true;
-        }
+        boolean isLiked = currentUserId != null && memberLikedPostCache.isLiked(currentUserId, postId);
 
         return ApiRecommendPostResponseDTO.builder()
-                .postId(post.getId()).nickname(post.getMember().getNickname()).title(post.getTitle()).content(post.getContent())
-                .createdDate(post.getCreatedDate()).likeCount(post.getLikeCount()).viewCount(post.getViewCount()).isLiked(isLiked).build();
+                .postId(body.postId()).nickname(body.nickname()).title(body.title()).content(body.content())
+                .createdDate(body.createdDate()).likeCount(counter.getLikeCount()).viewCount(viewCount).isLiked(isLiked).build();
+    }
+
+    // 검색 없는 좋아요순 앞쪽 페이지는 메모리 상위 목록에서, 나머지는 DB 에서 가져온다.
+    private Page<ApiRecommendPostsResponseDTO> findRecommendPosts(PageRequest pageRequest, String searchType, String searchKey, String sortBy) {
+        if ("like".equals(sortBy) && !StringUtils.hasText(searchKey)) {
+            Optional<Page<ApiRecommendPostsResponseDTO>> leaderboardPage = postLikeLeaderboard.findPage(pageRequest);
+            if (leaderboardPage.isPresent()) {
+                return leaderboardPage.get();
+            }
+        }
+
+        // 전체 개수를 알고 있으면 페이지 쿼리 한 번, 모르면 같은 쿼리에서 개수도 센다.
+        Long knownTotal = postPageTotalCache.get(searchType, searchKey, sortBy);
+        Page<ApiRecommendPostsResponseDTO> posts = postRepository.findRecommendPostsDeferred(pageRequest, searchType, searchKey, sortBy, knownTotal);
+        if (knownTotal == null) {
+            postPageTotalCache.put(searchType, searchKey, sortBy, posts.getTotalElements());
+        }
+        return posts;
+    }
+
+    // 로그인 유저면 목록의 좋아요 여부를 캐시에서 한 번에 채운다.
+    private List<ApiRecommendPostsResponseDTO> markLiked(List<ApiRecommendPostsResponseDTO> posts) {
+        Long currentUserId = jwtService.getCurrentUserId();
+        if (currentUserId == null || posts.isEmpty()) {
+            return posts;
+        }
+
+        Set<Long> likedPostIds = memberLikedPostCache.likedAmong(currentUserId,
+                posts.stream().map(ApiRecommendPostsResponseDTO::postId).toList());
+        return posts.stream()
+                .map(post -> post.withLiked(likedPostIds.contains(post.postId())))
+                .toList();
     }
 
     // 현재 로그인 유저 찾기
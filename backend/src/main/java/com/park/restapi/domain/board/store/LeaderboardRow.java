@@ -0,0 +1,24 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.board.entity.Post;
+
+// 좋아요순 목록 한 줄
+public record LeaderboardRow(
+        Long postId,
+        MethodType methodType,
+        String title,
+        String nickname,
+        Integer likeCount,
+        Integer viewCount
+) {
+    public static LeaderboardRow from(Post post) {
+        String nickname = post.getMember() == null ? null : post.getMember().getNickname();
+        return new LeaderboardRow(post.getId(), post.getMethodType(), post.getTitle(), nickname,
+                post.getLikeCount(), post.getViewCount());
+    }
+
+    public LeaderboardRow withLikeCount(int likeCount) {
+        return new LeaderboardRow(postId, methodType, title, nickname, likeCount, viewCount);
+    }
+}
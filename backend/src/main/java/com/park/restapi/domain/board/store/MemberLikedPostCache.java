@@ -0,0 +1,81 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.board.repository.PostLikeRepository;
+import com.park.restapi.domain.member.event.MemberWithdrawnEvent;
+import com.park.restapi.util.cache.LongBitmap;
+import com.park.restapi.util.cache.SegmentedLruCache;
+import com.park.restapi.util.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 유저별 좋아요 누른 게시글 ID 캐시.
+ * 게시글 ID 는 압축 비트맵으로 들고 있어서 좋아요가 많은 유저도 메모리를 적게 쓴다.
+ * 처음 조회할 때 한 번에 읽어 두고, 이 서버에서 누른 좋아요는 커밋 후 바로 반영한다.
+ * 다른 서버에서 누른 좋아요는 일정 시간이 지나 다시 읽을 때 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberLikedPostCache {
+
+    private static final int MAX_MEMBERS = 10_000;
+    private static final int SEGMENTS = 16;
+    private static final long MAX_AGE_MILLIS = 60 * 1000L;
+
+    private final PostLikeRepository postLikeRepository;
+
+    private final SegmentedLruCache<Long, Entry> cache = new SegmentedLruCache<>(MAX_MEMBERS, SEGMENTS);
+
+    // 좋아요 여부
+    public boolean isLiked(Long memberId, Long postId) {
+        return load(memberId).postIds().contains(postId);
+    }
+
+    // 주어진 게시글 중 좋아요 누른 게시글 ID(목록 조회용)
+    public Set<Long> likedAmong(Long memberId, Collection<Long> postIds) {
+        return load(memberId).postIds().retainContained(postIds);
+    }
+
+    public void addAfterCommit(Long memberId, Long postId) {
+        AfterCommit.run(() -> {
+            Entry entry = cache.get(memberId);
+            if (entry != null) {
+                entry.postIds().add(postId);
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long memberId, Long postId) {
+        AfterCommit.run(() -> {
+            Entry entry = cache.get(memberId);
+            if (entry != null) {
+                entry.postIds().remove(postId);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        cache.remove(event.memberId());
+    }
+
+    private Entry load(Long memberId) {
+        Entry entry = cache.get(memberId);
+        long now = System.currentTimeMillis();
+        if (entry != null && now - entry.loadedAtMillis() <= MAX_AGE_MILLIS) {
+            return entry;
+        }
+
+        LongBitmap postIds = LongBitmap.of(postLikeRepository.findPostIdsByMemberId(memberId));
+        Entry loaded = new Entry(postIds, now);
+        cache.put(memberId, loaded);
+        return loaded;
+    }
+
+    private record Entry(LongBitmap postIds, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.board.entity.Post;
+
+import java.time.LocalDateTime;
+
+// 게시글에서 바뀌지 않는 부분(좋아요, 조회수는 PostCounterStore 에서 관리)
+public record PostBody(
+        Long postId,
+        Long memberId,
+        String nickname,
+        String title,
+        String content,
+        MethodType methodType,
+        LocalDateTime createdDate
+) {
+    public static PostBody from(Post post) {
+        return new PostBody(post.getId(), post.getMember().getId(), post.getMember().getNickname(), post.getTitle(),
+                post.getContent(), post.getMethodType(), post.getCreatedDate());
+    }
+}
@@ -0,0 +1,148 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.board.repository.PostRepository;
+import com.park.restapi.util.transaction.AfterCommit;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 좋아요, 조회수 카운터.
+ * 조회수는 메모리에서만 올리고 1초마다 글별로 모아서 DB 에 더한다(행 잠금 없이 update 한 번).
+ * 같은 주기에 DB 값을 다시 읽어서 다른 서버에서 늘어난 수도 반영하고, 조회수가 바뀐 글은 이 서버의 구독자에게만 전송한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterStore {
+
+    // 이 시간 동안 조회되지 않은 글은 카운터에서 뺀다.
+    private static final long IDLE_MILLIS = 5 * 60 * 1000L;
+
+    private final PostRepository postRepository;
+    private final WebSocketPublisher webSocketPublisher;
+    private final PostTrendingScores postTrendingScores;
+
+    private final ConcurrentHashMap<Long, PostCounter> counters = new ConcurrentHashMap<>();
+
+    // 카운터, 없으면 null
+    public PostCounter get(Long postId) {
+        return counters.get(postId);
+    }
+
+    public PostCounter getOrInit(Long postId, int likeCount, int viewCount) {
+        return counters.computeIfAbsent(postId, id -> new PostCounter(likeCount, viewCount));
+    }
+
+    // 조회수 1 증가, 증가한 조회수 반환
+    public int recordView(PostCounter counter) {
+        counter.lastAccessMillis = System.currentTimeMillis();
+        counter.pendingViews.incrementAndGet();
+        return counter.getViewCount();
+    }
+
+    // 좋아요 수 반영(커밋 이후)
+    public void setLikeCountAfterCommit(Long postId, int likeCount) {
+        AfterCommit.run(() -> {
+            PostCounter counter = counters.get(postId);
+            if (counter != null) {
+                counter.likeCount = likeCount;
+            }
+        });
+    }
+
+    // 모인 조회수를 DB 에 반영하고 DB 값으로 동기화
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        long idleBefore = System.currentTimeMillis() - IDLE_MILLIS;
+        List<Long> postIds = new ArrayList<>(counters.size());
+
+        for (Map.Entry<Long, PostCounter> entry : counters.entrySet()) {
+            Long postId = entry.getKey();
+            PostCounter counter = entry.getValue();
+
+            if (!writeViews(postId, counter)
+                    && counter.lastAccessMillis < idleBefore && counters.remove(postId, counter)) {
+                // 제거 직전에 들어온 조회수
+                writeViews(postId, counter);
+                continue;
+            }
+            postIds.add(postId);
+        }
+
+        if (postIds.isEmpty()) {
+            return;
+        }
+        for (PostCounts counts : postRepository.findCounts(postIds)) {
+            PostCounter counter = counters.get(counts.postId());
+            if (counter != null) {
+                counter.likeCount = counts.likeCount();
+                counter.viewCount = counts.viewCount();
+            }
+        }
+
+        // DB 와 맞춘 값이 지난번에 보낸 값과 다르면 전송
+        for (Long postId : postIds) {
+            PostCounter counter = counters.get(postId);
+            if (counter != null && counter.publishedViewCount != counter.viewCount) {
+                counter.publishedViewCount = counter.viewCount;
+                webSocketPublisher.publishLocal(WebSocketTopic.post(postId), "view",
+                        Map.of("postId", postId, "viewCount", counter.getViewCount()));
+            }
+        }
+    }
+
+    // 모인 조회수 DB 반영, 반영할 게 없으면 false
+    private boolean writeViews(Long postId, PostCounter counter) {
+        int delta = counter.pendingViews.getAndSet(0);
+        if (delta == 0) {
+            return false;
+        }
+
+        try {
+            postRepository.increaseViewCount(postId, delta);
+            counter.viewCount += delta;
+            postTrendingScores.recordViews(postId, delta);
+            return true;
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            counter.pendingViews.addAndGet(delta);
+            log.warn("조회수 반영 실패 - 게시글 ID : {}, 조회수 : {}, 오류 : {}", postId, delta, e.getMessage());
+            return false;
+        }
+    }
+
+    public static final class PostCounter {
+
+        private volatile int likeCount;
+        // DB 에 반영된 조회수(flush 스레드만 변경)
+        private volatile int viewCount;
+        // 마지막으로 구독자에게 보낸 조회수(flush 스레드만 변경)
+        private int publishedViewCount;
+        private final AtomicInteger pendingViews = new AtomicInteger();
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        private PostCounter(int likeCount, int viewCount) {
+            this.likeCount = likeCount;
+            this.viewCount = viewCount;
+            this.publishedViewCount = viewCount;
+        }
+
+        public int getLikeCount() {
+            return likeCount;
+        }
+
+        public int getViewCount() {
+            return viewCount + pendingViews.get();
+        }
+    }
+}
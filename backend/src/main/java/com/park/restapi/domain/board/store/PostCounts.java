@@ -0,0 +1,5 @@
+package com.park.restapi.domain.board.store;
+
+// DB 에 저장된 게시글 좋아요, 조회수
+public record PostCounts(Long postId, Integer likeCount, Integer viewCount) {
+}
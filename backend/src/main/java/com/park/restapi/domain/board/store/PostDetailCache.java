@@ -0,0 +1,47 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.member.event.MemberWithdrawnEvent;
+import com.park.restapi.util.cache.SegmentedLruCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 본문 캐시.
+ * 최근에 조회된 글만 남기고(LRU), 작성자가 탈퇴하면 해당 글을 비운다.
+ * 다른 서버에서 일어난 변경은 이벤트가 오지 않으므로 일정 시간이 지난 본문은 다시 읽는다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final int MAX_POSTS = 2048;
+    private static final int SEGMENTS = 16;
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+
+    private final SegmentedLruCache<Long, Entry> cache = new SegmentedLruCache<>(MAX_POSTS, SEGMENTS);
+
+    // 캐시된 본문, 없거나 오래됐으면 null
+    public PostBody get(Long postId) {
+        Entry entry = cache.get(postId);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAtMillis() > MAX_AGE_MILLIS) {
+            return null;
+        }
+        return entry.body();
+    }
+
+    public void put(PostBody body) {
+        cache.put(body.postId(), new Entry(body, System.currentTimeMillis()));
+    }
+
+    public void evict(Long postId) {
+        cache.remove(postId);
+    }
+
+    // 탈퇴한 유저의 글 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        cache.removeIf((postId, entry) -> event.memberId().equals(entry.body().memberId()));
+    }
+
+    private record Entry(PostBody body, long loadedAtMillis) {
+    }
+}
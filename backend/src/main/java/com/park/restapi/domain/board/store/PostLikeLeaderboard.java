@@ -0,0 +1,201 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.board.dto.response.ApiRecommendPostsResponseDTO;
+import com.park.restapi.domain.board.entity.Post;
+import com.park.restapi.domain.board.repository.PostRepository;
+import com.park.restapi.util.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 좋아요순 게시판 상위 목록.
+ * 좋아요 수 내림차순, ID 내림차순으로 정렬된 상위 글만 들고 있고 좋아요/취소가 커밋되면 바로 순서를 고친다.
+ * 목록은 고칠 때마다 복사본을 만들어 통째로 바꾸므로(copy-on-write) 조회는 잠금 없이 한 시점의 목록만 본다.
+ * 기준선(floor)보다 순위가 높은 글은 전부 메모리에 있다는 것이 보장될 때만 메모리에서 페이지를 만들고,
+ * 아니면 DB((like_count, id) 인덱스)로 넘긴다.
+ * 다른 서버에서 누른 좋아요는 주기적으로 DB 에서 다시 읽을 때 반영된다.
+ * 글을 지우는 기능은 없으므로 목록에서 글을 빼는 경로도 두지 않는다. 삭제가 생기면 커밋 후 목록에서 빼야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLikeLeaderboard {
+
+    // 메모리에서 바로 응답하는 최대 순위
+    static final int SERVED_RANKS = 100;
+    // 좋아요 취소로 순위가 내려가도 기준선이 바로 올라가지 않도록 여유분을 더 들고 있는다.
+    static final int CAPACITY = SERVED_RANKS + 50;
+
+    private final PostRepository postRepository;
+    private final PostCounterStore postCounterStore;
+
+    // 게시된 뒤에는 바뀌지 않는다. 바꿀 때는 this 잠금 안에서 복사본을 만들어 교체한다.
+    private volatile Board board;
+    // 다시 읽는 동안 커밋된 좋아요, 읽기가 끝나면 새 목록에 다시 반영한다(this 잠금).
+    private List<LeaderboardRow> pendingRows;
+
+    // 메모리에서 만들 수 있는 페이지면 반환
+    public Optional<Page<ApiRecommendPostsResponseDTO>> findPage(Pageable pageable) {
+        Board current = board;
+        if (current == null || pageable.getOffset() + pageable.getPageSize() > SERVED_RANKS) {
+            return Optional.empty();
+        }
+
+        List<ApiRecommendPostsResponseDTO> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<Rank> iterator = current.ranks.iterator();
+        for (long skip = pageable.getOffset(); skip > 0 && iterator.hasNext(); skip--) {
+            iterator.next();
+        }
+        while (content.size() < pageable.getPageSize() && iterator.hasNext()) {
+            content.add(toResponse(current.rows.get(iterator.next().postId())));
+        }
+
+        // 기준선 아래 글은 메모리에 없으므로 페이지를 다 채우지 못하면 DB 에서 읽어야 한다.
+        if (content.size() < pageable.getPageSize() && current.floor != null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PageImpl<>(content, pageable, current.total));
+    }
+
+    // 좋아요 수 변경 반영(커밋 이후)
+    public void updateAfterCommit(Post post) {
+        LeaderboardRow row = LeaderboardRow.from(post);
+        AfterCommit.run(() -> update(row, false));
+    }
+
+    // 새 글 반영(커밋 이후)
+    public void addAfterCommit(Post post) {
+        LeaderboardRow row = LeaderboardRow.from(post);
+        AfterCommit.run(() -> update(row, true));
+    }
+
+    // DB 에서 상위 목록을 다시 읽는다(다른 서버의 좋아요 반영).
+    @Scheduled(fixedDelay = 10_000)
+    public void reload() {
+        synchronized (this) {
+            pendingRows = new ArrayList<>();
+        }
+
+        List<LeaderboardRow> top = postRepository.findTopLiked(PageRequest.of(0, CAPACITY));
+        long total = postRepository.count();
+
+        Board loaded = new Board(total);
+        for (LeaderboardRow row : top) {
+            loaded.put(row);
+        }
+        // 전부 읽지 못했으면 마지막 글이 기준선
+        if (top.size() == CAPACITY) {
+            LeaderboardRow last = top.get(top.size() - 1);
+            loaded.floor = new Rank(last.likeCount(), last.postId());
+        }
+
+        synchronized (this) {
+            List<LeaderboardRow> missed = pendingRows;
+            pendingRows = null;
+            // 읽는 동안 커밋된 좋아요는 DB 결과에 없을 수 있으므로 다시 반영한다.
+            // 글 수는 count() 에 이미 들어갔을 수 있어 더하지 않고 다음 읽기에 맞춘다.
+            for (LeaderboardRow row : missed) {
+                loaded.apply(row);
+            }
+            board = loaded;
+        }
+    }
+
+    private synchronized void update(LeaderboardRow row, boolean created) {
+        if (pendingRows != null) {
+            pendingRows.add(row);
+        }
+
+        Board current = board;
+        if (current == null) {
+            return;
+        }
+
+        Board next = current.copy();
+        if (created) {
+            next.total++;
+        }
+        next.apply(row);
+        board = next;
+    }
+
+    private ApiRecommendPostsResponseDTO toResponse(LeaderboardRow row) {
+        PostCounterStore.PostCounter counter = postCounterStore.get(row.postId());
+        int viewCount = counter == null ? row.viewCount() : counter.getViewCount();
+        return new ApiRecommendPostsResponseDTO(row.postId(), row.methodType(), row.title(), row.nickname(),
+                row.likeCount(), viewCount);
+    }
+
+    // 게시 전에만 고치는 목록, 게시된 뒤에는 읽기만 한다.
+    private static final class Board {
+
+        private final TreeSet<Rank> ranks = new TreeSet<>();
+        private final Map<Long, LeaderboardRow> rows = new HashMap<>();
+        // 이 순위 이하의 글은 메모리에 없을 수 있다. null 이면 모든 글을 들고 있음.
+        private Rank floor;
+        private long total;
+
+        private Board(long total) {
+            this.total = total;
+        }
+
+        private Board copy() {
+            Board copy = new Board(total);
+            copy.ranks.addAll(ranks);
+            copy.rows.putAll(rows);
+            copy.floor = floor;
+            return copy;
+        }
+
+        private void put(LeaderboardRow row) {
+            rows.put(row.postId(), row);
+            ranks.add(new Rank(row.likeCount(), row.postId()));
+        }
+
+        // 글 한 개의 좋아요 수를 고친다.
+        private void apply(LeaderboardRow row) {
+            LeaderboardRow previous = rows.remove(row.postId());
+            if (previous != null) {
+                ranks.remove(new Rank(previous.likeCount(), previous.postId()));
+            }
+
+            // 기준선 아래로 내려간 글은 기준선 아래 다른 글과 순서를 알 수 없으므로 뺀다.
+            Rank rank = new Rank(row.likeCount(), row.postId());
+            if (floor == null || rank.compareTo(floor) < 0) {
+                put(previous == null ? row : previous.withLikeCount(row.likeCount()));
+            }
+
+            // 용량을 넘으면 가장 낮은 글을 빼고 기준선을 올린다.
+            while (ranks.size() > CAPACITY) {
+                Rank lowest = ranks.pollLast();
+                rows.remove(lowest.postId());
+                floor = lowest;
+            }
+        }
+    }
+
+    // 좋아요 수 내림차순, ID 내림차순
+    record Rank(int likeCount, long postId) implements Comparable<Rank> {
+
+        @Override
+        public int compareTo(Rank other) {
+            int byLikes = Integer.compare(other.likeCount, likeCount);
+            return byLikes != 0 ? byLikes : Long.compare(other.postId, postId);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.util.cache.SegmentedLruCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시판 검색 조건별 전체 글 수 캐시.
+ * 개수는 페이지를 넘길 때마다 바뀌지 않으므로 잠시 들고 있다가, 있으면 개수를 세지 않고 페이지만 조회한다.
+ * 새 글이 작성되어도 비우지 않는다. 검색 없는 개수만 1 늘리고, 검색 개수와 다른 서버에서 작성된 글은
+ * 최대 MAX_AGE_MILLIS 만큼 늦게 반영된다(페이지 수만 잠시 어긋나고 목록 내용은 항상 DB 에서 읽는다).
+ */
+@Component
+public class PostPageTotalCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final int SEGMENTS = 8;
+    private static final long MAX_AGE_MILLIS = 30 * 1000L;
+
+    private final SegmentedLruCache<String, Entry> cache = new SegmentedLruCache<>(MAX_ENTRIES, SEGMENTS);
+
+    // 전체 개수, 없거나 오래됐으면 null
+    public Long get(String searchType, String searchKey, String sortBy) {
+        Entry entry = cache.get(key(searchType, searchKey, sortBy));
+        if (entry == null || System.currentTimeMillis() - entry.loadedAtMillis() > MAX_AGE_MILLIS) {
+            return null;
+        }
+        return entry.total();
+    }
+
+    public void put(String searchType, String searchKey, String sortBy, long total) {
+        cache.put(key(searchType, searchKey, sortBy), new Entry(total, System.currentTimeMillis()));
+    }
+
+    // 새 글 반영, 검색 없는 개수만 늘린다.
+    public void addPost() {
+        for (boolean trending : new boolean[]{false, true}) {
+            String key = key(null, null, trending ? "trending" : null);
+            Entry entry = cache.get(key);
+            if (entry != null) {
+                cache.put(key, new Entry(entry.total() + 1, entry.loadedAtMillis()));
+            }
+        }
+    }
+
+    // 인기순만 점수 테이블과 조인해서 개수가 달라질 수 있다.
+    // 검색 조건이 없는 요청은 null 과 빈 문자열이 섞여 들어오므로 같은 키로 맞춘다.
+    private String key(String searchType, String searchKey, String sortBy) {
+        return normalize(searchType) + '\u0000' + normalize(searchKey) + '\u0000' + "trending".equals(sortBy);
+    }
+
+    private String normalize(String value) {
+        return value == null || value.isBlank() ? "" : value;
+    }
+
+    private record Entry(long total, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.park.restapi.domain.board.store;
+
+import java.time.LocalDateTime;
+
+// 점수 행이 없는 글의 점수 계산 재료
+public record PostScoreSeed(
+        Long postId,
+        LocalDateTime createdDate,
+        Integer viewCount
+) {
+}
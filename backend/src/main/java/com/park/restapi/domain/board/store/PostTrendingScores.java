@@ -0,0 +1,77 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.board.service.PostScoreService;
+import com.park.restapi.util.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 인기 점수 변화를 메모리에 모았다가 주기적으로 post_score 테이블에 합친다.
+ * 조회수는 PostCounterStore 가 1초마다 모아서 넘겨주므로 조회마다 여기를 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostTrendingScores {
+
+    private final PostScoreService postScoreService;
+
+    private final ConcurrentHashMap<Long, ScoreDelta> pending = new ConcurrentHashMap<>();
+
+    // 조회수 반영
+    public void recordViews(Long postId, int views) {
+        record(postId, new ScoreDelta(TrendingScore.of(TrendingScore.VIEW_WEIGHT * views, Instant.now()), TrendingScore.EMPTY));
+    }
+
+    // 좋아요 반영(커밋 이후)
+    public void recordLikeAfterCommit(Long postId, LocalDateTime likedDate) {
+        double score = likeScore(likedDate);
+        AfterCommit.run(() -> record(postId, new ScoreDelta(score, TrendingScore.EMPTY)));
+    }
+
+    // 좋아요 취소 반영(커밋 이후), 좋아요를 누른 시각의 점수를 그대로 뺀다.
+    public void recordUnlikeAfterCommit(Long postId, LocalDateTime likedDate) {
+        double score = likeScore(likedDate);
+        AfterCommit.run(() -> record(postId, new ScoreDelta(TrendingScore.EMPTY, score)));
+    }
+
+    // 모인 점수 변화를 DB 에 반영
+    @Scheduled(fixedDelay = 30_000)
+    public void snapshot() {
+        Map<Long, ScoreDelta> drained = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            ScoreDelta delta = pending.remove(postId);
+            if (delta != null) {
+                drained.put(postId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            postScoreService.mergeScores(drained);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            drained.forEach((postId, delta) -> pending.merge(postId, delta, ScoreDelta::plus));
+            log.warn("인기 점수 반영 실패 - 게시글 수 : {}, 오류 : {}", drained.size(), e.getMessage());
+        }
+    }
+
+    private double likeScore(LocalDateTime likedDate) {
+        return TrendingScore.of(TrendingScore.LIKE_WEIGHT, likedDate.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void record(Long postId, ScoreDelta delta) {
+        pending.merge(postId, delta, ScoreDelta::plus);
+    }
+}
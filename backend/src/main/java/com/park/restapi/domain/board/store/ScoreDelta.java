@@ -0,0 +1,18 @@
+package com.park.restapi.domain.board.store;
+
+// 스냅샷 사이에 쌓인 점수 변화(더할 값, 뺄 값 모두 로그 점수)
+public record ScoreDelta(double added, double removed) {
+
+    public static final ScoreDelta NONE = new ScoreDelta(TrendingScore.EMPTY, TrendingScore.EMPTY);
+
+    public ScoreDelta plus(ScoreDelta other) {
+        return new ScoreDelta(TrendingScore.add(added, other.added), TrendingScore.add(removed, other.removed));
+    }
+
+    // 기존 점수에 반영
+    // 뺄 값이 점수보다 크면 다른 서버가 아직 더하지 않은 좋아요를 먼저 뺀 것이므로, 점수를 비우지 않고 빼지 않는다.
+    public double applyTo(double score) {
+        double total = TrendingScore.add(score, added);
+        return removed >= total ? total : TrendingScore.subtract(total, removed);
+    }
+}
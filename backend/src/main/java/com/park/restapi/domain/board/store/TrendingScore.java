@@ -0,0 +1,54 @@
+package com.park.restapi.domain.board.store;
+
+import java.time.Instant;
+
+/**
+ * 시간 감쇠 인기 점수 계산.
+ * 이벤트 가중치에 exp(t / tau) 를 곱해서 더하면, 시간이 지나도 기존 점수를 다시 계산하지 않고 순서가 유지된다
+ * (지금 기준 점수는 모든 글에 같은 exp(-now / tau) 를 곱한 값이라 순서가 같다).
+ * 값이 커져서 넘치지 않도록 자연로그로 저장한다.
+ */
+public final class TrendingScore {
+
+    // 점수가 절반이 되는 시간 : 12시간
+    private static final double HALF_LIFE_SECONDS = 12 * 60 * 60;
+    private static final double TAU_SECONDS = HALF_LIFE_SECONDS / Math.log(2);
+    // 기준 시각 : 2024-01-01T00:00:00Z
+    private static final long EPOCH_SECONDS = 1_704_067_200L;
+
+    // 점수 0(로그 값이라 음의 무한대 대신 사용)
+    public static final double EMPTY = -1.0e9;
+
+    public static final double CREATED_WEIGHT = 1.0;
+    public static final double LIKE_WEIGHT = 1.0;
+    public static final double VIEW_WEIGHT = 0.1;
+
+    private TrendingScore() {
+    }
+
+    // 가중치 weight 의 이벤트가 instant 에 일어났을 때 로그 점수
+    public static double of(double weight, Instant instant) {
+        return Math.log(weight) + (instant.getEpochSecond() - EPOCH_SECONDS) / TAU_SECONDS;
+    }
+
+    // log(e^a + e^b)
+    public static double add(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        if (min <= EMPTY) {
+            return max;
+        }
+        return max + Math.log1p(Math.exp(min - max));
+    }
+
+    // log(e^a - e^b), 0 이하면 EMPTY
+    public static double subtract(double a, double b) {
+        if (b <= EMPTY) {
+            return a;
+        }
+        if (b >= a) {
+            return EMPTY;
+        }
+        return a + Math.log1p(-Math.exp(b - a));
+    }
+}
@@ -1,8 +1,13 @@
 package com.park.restapi.domain.coupon.controller;
 
+import com.park.restapi.domain.coupon.dto.request.CreateCouponCampaignRequestDTO;
 import com.park.restapi.domain.coupon.dto.request.UpdateCouponQuantityRequestDTO;
 import com.park.restapi.domain.coupon.dto.request.UpdateCouponSettingRequestDTO;
+import com.park.restapi.domain.coupon.dto.response.CouponCampaignResponseDTO;
+import com.park.restapi.domain.coupon.dto.response.CouponClaimResponseDTO;
 import com.park.restapi.domain.coupon.dto.response.CouponSettingResponseDTO;
+import com.park.restapi.domain.coupon.service.CouponCampaignService;
+import com.park.restapi.domain.coupon.service.CouponClaimService;
 import com.park.restapi.domain.coupon.service.CouponService;
 import com.park.restapi.util.response.ApiResponse;
 import jakarta.validation.Valid;
@@ -12,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 @RequiredArgsConstructor
@@ -19,12 +26,21 @@ import org.springframework.web.bind.annotation.*;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponCampaignService couponCampaignService;
+    private final CouponClaimService couponClaimService;
 
-    // 유저가 쿠폰을 획득하는 API
+    // 유저가 쿠폰 획득을 요청하는 API, 번호표를 바로 받고 결과는 조회 API 나 웹소켓으로 확인한다.
     @PostMapping("coupons")
-    public ResponseEntity<ApiResponse<Void>> acquisitionCoupons() {
-        couponService.acquisitionCoupon();
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccessNoContent("토큰을 획득하셨습니다."));
+    public ResponseEntity<ApiResponse<CouponClaimResponseDTO>> acquisitionCoupons() {
+        CouponClaimResponseDTO claim = couponClaimService.requestClaim();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.createSuccess(claim, "쿠폰 획득 요청이 접수되었습니다."));
+    }
+
+    // 쿠폰 획득 요청 결과를 제공하는 API
+    @GetMapping("coupons/claim")
+    public ResponseEntity<ApiResponse<CouponClaimResponseDTO>> getClaim() {
+        CouponClaimResponseDTO claim = couponClaimService.getClaim();
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccess(claim, "쿠폰 획득 요청 결과 조회 성공"));
     }
 
     // 현재 남은 쿠폰을 제공하는 API
@@ -59,4 +75,27 @@ public class CouponController {
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccess(result, "쿠폰이 발급되었습니다."));
     }
+
+    // 진행 중인 쿠폰 이벤트 목록 API
+    @GetMapping("coupons/campaigns")
+    public ResponseEntity<ApiResponse<List<CouponCampaignResponseDTO>>> getRunningCampaigns() {
+        List<CouponCampaignResponseDTO> campaigns = couponCampaignService.getRunningCampaigns();
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccess(campaigns, "진행 중인 쿠폰 이벤트 조회 성공"));
+    }
+
+    // 쿠폰 이벤트 쿠폰 획득 API
+    @PostMapping("coupons/campaigns/{id}")
+    public ResponseEntity<ApiResponse<Integer>> claimCampaign(@PathVariable("id") Long campaignId) {
+        int remaining = couponCampaignService.claimCampaign(campaignId);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccess(remaining, "토큰을 획득하셨습니다."));
+    }
+
+    // 쿠폰 이벤트 생성하기(관리자)
+    @PostMapping("admin/coupons/campaigns")
+    public ResponseEntity<ApiResponse<CouponCampaignResponseDTO>> createCampaign(
+            @Valid @RequestBody CreateCouponCampaignRequestDTO requestDTO) {
+        CouponCampaignResponseDTO campaign = couponCampaignService.createCampaign(requestDTO);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.createSuccess(campaign, "쿠폰 이벤트가 생성되었습니다."));
+    }
 }
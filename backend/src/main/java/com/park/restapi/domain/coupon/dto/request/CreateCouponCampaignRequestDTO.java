@@ -0,0 +1,32 @@
+package com.park.restapi.domain.coupon.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+public record CreateCouponCampaignRequestDTO(
+        @NotBlank(message = "쿠폰 이벤트 이름을 입력해주세요.")
+        @Size(max = 50, message = "쿠폰 이벤트 이름은 50자 이하로 입력해주세요.")
+        String name,
+        @NotNull(message = "쿠폰 이벤트 시작 시각을 입력해주세요.")
+        LocalDateTime startAt,
+        @NotNull(message = "쿠폰 이벤트 종료 시각을 입력해주세요.")
+        LocalDateTime endAt,
+        @NotNull(message = "쿠폰 발급 갯수를 입력해주세요.")
+        @Min(value = 1, message = "쿠폰 발급 갯수는 1개 이상으로 입력해주세요.")
+        @Max(value = 100000, message = "쿠폰 발급 갯수는 100000개 이하로 입력해주세요.")
+        Integer totalQuantity,
+        @NotNull(message = "유저당 획득 횟수를 입력해주세요.")
+        @Min(value = 1, message = "유저당 획득 횟수는 1회 이상으로 입력해주세요.")
+        @Max(value = 10, message = "유저당 획득 횟수는 10회 이하로 입력해주세요.")
+        Integer perMemberLimit,
+        @NotNull(message = "지급 토큰 수를 입력해주세요.")
+        @Min(value = 1, message = "지급 토큰 수는 1개 이상으로 입력해주세요.")
+        @Max(value = 100, message = "지급 토큰 수는 100개 이하로 입력해주세요.")
+        Integer tokenAmount
+) {
+}
@@ -0,0 +1,41 @@
+package com.park.restapi.domain.coupon.dto.response;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import com.park.restapi.domain.coupon.store.CampaignStock;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record CouponCampaignResponseDTO(
+        Long campaignId,
+        String name,
+        LocalDateTime endAt,
+        Integer totalQuantity,
+        Integer remainingQuantity,
+        Integer perMemberLimit,
+        Integer tokenAmount
+) {
+    // 새로 만든 쿠폰 이벤트
+    public static CouponCampaignResponseDTO toDTO(CouponCampaign campaign) {
+        return CouponCampaignResponseDTO.builder()
+                .campaignId(campaign.getId())
+                .name(campaign.getName())
+                .endAt(campaign.getEndAt())
+                .totalQuantity(campaign.getTotalQuantity())
+                .remainingQuantity(campaign.getTotalQuantity())
+                .perMemberLimit(campaign.getPerMemberLimit())
+                .tokenAmount(campaign.getTokenAmount()).build();
+    }
+
+    public static CouponCampaignResponseDTO toDTO(CampaignStock stock) {
+        return CouponCampaignResponseDTO.builder()
+                .campaignId(stock.getCampaignId())
+                .name(stock.getName())
+                .endAt(stock.getEndAt())
+                .totalQuantity(stock.getTotalQuantity())
+                .remainingQuantity(stock.getRemaining())
+                .perMemberLimit(stock.getPerMemberLimit())
+                .tokenAmount(stock.getTokenAmount()).build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.park.restapi.domain.coupon.dto.response;
+
+import com.park.restapi.domain.coupon.store.CouponClaimStatus;
+import com.park.restapi.domain.coupon.store.CouponClaimTicket;
+import lombok.Builder;
+
+@Builder
+public record CouponClaimResponseDTO(
+        Long ticket,
+        CouponClaimStatus status,
+        // 앞에 남은 대기 인원(대기 중일 때만 의미가 있다)
+        Long ahead
+) {
+    public static CouponClaimResponseDTO toDTO(CouponClaimTicket ticket, long lastProcessedTicket) {
+        return CouponClaimResponseDTO.builder()
+                .ticket(ticket.getNumber())
+                .status(ticket.getStatus())
+                .ahead(ticket.isWaiting() ? Math.max(0, ticket.getNumber() - lastProcessedTicket - 1) : 0L).build();
+    }
+}
@@ -8,34 +8,33 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
+
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_coupon_date", columnNames = "coupon_date"))
 public class Coupon extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 쿠폰 발행일, 하루에 하나만 발행된다. 남은 수량은 CouponStockShard 에 나눠 담는다.
     @Column(nullable = false)
-    private Integer remainingQuantity;
+    private LocalDate couponDate;
 
     @Column(nullable = false)
     private Integer totalQuantity;
 
     @Builder
-    public Coupon(Integer remainingQuantity, Integer totalQuantity) {
-        this.remainingQuantity = remainingQuantity;
+    public Coupon(LocalDate couponDate, Integer totalQuantity) {
+        this.couponDate = couponDate;
         this.totalQuantity = totalQuantity;
     }
 
-    public void decreasedCoupon() {
-        this.remainingQuantity--;
-    }
-
     public void updateCouponQuantity(int quantity) {
-        this.remainingQuantity = quantity;
         this.totalQuantity = quantity;
     }
 }
@@ -0,0 +1,62 @@
+package com.park.restapi.domain.coupon.entity;
+
+import com.park.restapi.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 기간, 수량, 유저당 획득 횟수, 지급 토큰 수를 따로 가지는 쿠폰 캠페인(남은 수량은 재고 조각에 나눠 담는다)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_coupon_campaign_status_start_at", columnList = "status, start_at")
+})
+public class CouponCampaign extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(nullable = false)
+    private Integer totalQuantity;
+
+    // 유저당 최대 획득 횟수
+    @Column(nullable = false)
+    private Integer perMemberLimit;
+
+    // 한 번 획득할 때 지급하는 토큰 수
+    @Column(nullable = false)
+    private Integer tokenAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CouponCampaignStatus status;
+
+    @Builder
+    public CouponCampaign(String name, LocalDateTime startAt, LocalDateTime endAt, Integer totalQuantity,
+                          Integer perMemberLimit, Integer tokenAmount) {
+        this.name = name;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.totalQuantity = totalQuantity;
+        this.perMemberLimit = perMemberLimit;
+        this.tokenAmount = tokenAmount;
+        this.status = CouponCampaignStatus.SCHEDULED;
+    }
+}
@@ -0,0 +1,49 @@
+package com.park.restapi.domain.coupon.entity;
+
+import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.util.BaseTimeEntity;
+import com.park.restapi.util.jpa.IdSequence;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 캠페인 쿠폰 획득 이력, claimSeq 는 유저가 해당 캠페인에서 몇 번째로 획득했는지(1부터 유저당 최대 횟수까지)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_campaign_history_campaign_member_seq",
+        columnNames = {"campaign_id", "member_id", "claim_seq"}))
+public class CouponCampaignHistory extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_campaign_history_id")
+    @TableGenerator(name = "coupon_campaign_history_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "coupon_campaign_history", allocationSize = IdSequence.ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campaign_id", nullable = false)
+    private CouponCampaign campaign;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private Integer claimSeq;
+
+    @Column(nullable = false)
+    private Integer tokenAmount;
+
+    @Builder
+    public CouponCampaignHistory(CouponCampaign campaign, Member member, Integer claimSeq, Integer tokenAmount) {
+        this.campaign = campaign;
+        this.member = member;
+        this.claimSeq = claimSeq;
+        this.tokenAmount = tokenAmount;
+    }
+}
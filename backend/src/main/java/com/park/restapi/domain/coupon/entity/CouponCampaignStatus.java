@@ -0,0 +1,5 @@
+package com.park.restapi.domain.coupon.entity;
+
+public enum CouponCampaignStatus {
+    SCHEDULED, ACTIVE, ENDED;
+}
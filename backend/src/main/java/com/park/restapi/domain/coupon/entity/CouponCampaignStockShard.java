@@ -0,0 +1,39 @@
+package com.park.restapi.domain.coupon.entity;
+
+import com.park.restapi.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 쿠폰 이벤트 재고 조각, 이벤트 수량을 여러 행에 나눠 담아 획득 요청이 캠페인 행 하나에 몰리지 않게 한다.
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_campaign_stock_shard_campaign_id_shard_no",
+        columnNames = {"campaign_id", "shard_no"}))
+public class CouponCampaignStockShard extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long campaignId;
+
+    @Column(nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer remainingQuantity;
+
+    @Builder
+    public CouponCampaignStockShard(Long campaignId, Integer shardNo, Integer remainingQuantity) {
+        this.campaignId = campaignId;
+        this.shardNo = shardNo;
+        this.remainingQuantity = remainingQuantity;
+    }
+}
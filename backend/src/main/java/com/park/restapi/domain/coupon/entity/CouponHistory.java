@@ -2,6 +2,7 @@ package com.park.restapi.domain.coupon.entity;
 
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.util.BaseTimeEntity;
+import com.park.restapi.util.jpa.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,22 +10,33 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
+
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_history_member_coupon_date",
+        columnNames = {"member_id", "coupon_date"}))
 public class CouponHistory extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_history_id")
+    @TableGenerator(name = "coupon_history_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "coupon_history", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
+    // 획득한 쿠폰의 발행일, 유저당 하루 한 번만 획득할 수 있다.
+    @Column(nullable = false)
+    private LocalDate couponDate;
+
     @Builder
-    public CouponHistory(Member member) {
+    public CouponHistory(Member member, LocalDate couponDate) {
         this.member = member;
+        this.couponDate = couponDate;
     }
 }
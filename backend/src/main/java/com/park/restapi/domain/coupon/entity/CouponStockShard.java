@@ -0,0 +1,45 @@
+package com.park.restapi.domain.coupon.entity;
+
+import com.park.restapi.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+
+// 일일 쿠폰 재고 조각, 하루 수량을 여러 행에 나눠 담아 획득 요청이 한 행에 몰리지 않게 한다.
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_stock_shard_coupon_date_shard_no",
+        columnNames = {"coupon_date", "shard_no"}))
+public class CouponStockShard extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate couponDate;
+
+    @Column(nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer remainingQuantity;
+
+    @Builder
+    public CouponStockShard(LocalDate couponDate, Integer shardNo, Integer remainingQuantity) {
+        this.couponDate = couponDate;
+        this.shardNo = shardNo;
+        this.remainingQuantity = remainingQuantity;
+    }
+
+    public void updateRemainingQuantity(int quantity) {
+        this.remainingQuantity = quantity;
+    }
+}
@@ -0,0 +1,15 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaignHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CouponCampaignHistoryRepository extends JpaRepository<CouponCampaignHistory, Long> {
+
+    // 유저가 캠페인에서 획득한 횟수(uk_coupon_campaign_history_campaign_member_seq 범위 조회)
+    @Query("select count(h) from CouponCampaignHistory h where h.campaign.id = :campaignId and h.member.id = :memberId")
+    int countClaims(@Param("campaignId") Long campaignId, @Param("memberId") Long memberId);
+}
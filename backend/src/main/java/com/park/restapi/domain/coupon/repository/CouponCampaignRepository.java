@@ -0,0 +1,32 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import com.park.restapi.domain.coupon.entity.CouponCampaignStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CouponCampaignRepository extends JpaRepository<CouponCampaign, Long> {
+
+    // 진행 중인 캠페인 조회, 상태 변경을 기다리지 않고 기간으로 판단한다.
+    @Query("select c from CouponCampaign c where c.status <> :ended and c.startAt <= :now and c.endAt > :now")
+    List<CouponCampaign> findRunning(@Param("ended") CouponCampaignStatus ended, @Param("now") LocalDateTime now);
+
+    // 시작 시각이 된 캠페인 시작
+    @Modifying(clearAutomatically = true)
+    @Query("update CouponCampaign c set c.status = :active " +
+            "where c.status = :scheduled and c.startAt <= :now and c.endAt > :now")
+    int activate(@Param("scheduled") CouponCampaignStatus scheduled, @Param("active") CouponCampaignStatus active,
+                 @Param("now") LocalDateTime now);
+
+    // 종료 시각이 지난 캠페인 종료
+    @Modifying(clearAutomatically = true)
+    @Query("update CouponCampaign c set c.status = :ended where c.status <> :ended and c.endAt <= :now")
+    int expire(@Param("ended") CouponCampaignStatus ended, @Param("now") LocalDateTime now);
+}
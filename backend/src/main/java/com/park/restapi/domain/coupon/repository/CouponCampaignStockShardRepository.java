@@ -0,0 +1,31 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaignStockShard;
+import com.park.restapi.domain.coupon.store.CampaignRemaining;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CouponCampaignStockShardRepository extends JpaRepository<CouponCampaignStockShard, Long> {
+
+    // 재고 조각에서 한 개 차감, 비어 있으면 0
+    @Modifying
+    @Query("update CouponCampaignStockShard s set s.remainingQuantity = s.remainingQuantity - 1 " +
+            "where s.campaignId = :campaignId and s.shardNo = :shardNo and s.remainingQuantity > 0")
+    int decrease(@Param("campaignId") Long campaignId, @Param("shardNo") int shardNo);
+
+    // 재고가 남은 조각 번호
+    @Query("select s.shardNo from CouponCampaignStockShard s where s.campaignId = :campaignId and s.remainingQuantity > 0")
+    List<Integer> findNonEmptyShardNos(@Param("campaignId") Long campaignId);
+
+    // 쿠폰 이벤트별 남은 수량(모든 조각의 합)
+    @Query("select new com.park.restapi.domain.coupon.store.CampaignRemaining(s.campaignId, sum(s.remainingQuantity)) " +
+            "from CouponCampaignStockShard s where s.campaignId in :campaignIds group by s.campaignId")
+    List<CampaignRemaining> sumRemaining(@Param("campaignIds") Collection<Long> campaignIds);
+}
@@ -8,18 +8,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
-    // 당일 쿠폰 조회
+    // 발행일 쿠폰 조회(uk_coupon_coupon_date 단건 조회)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select c from Coupon c where c.createdDate >= :startOfDay and c.createdDate <= :endOfDay")
-    Optional<Coupon> findByCouponForWrite(@Param("startOfDay") LocalDateTime startOfDay,
-                                          @Param("endOfDay") LocalDateTime endOfDay);
+    @Query("select c from Coupon c where c.couponDate = :couponDate")
+    Optional<Coupon> findByCouponForWrite(@Param("couponDate") LocalDate couponDate);
 
-    @Query("select c from Coupon c where c.createdDate >= :startOfDay and c.createdDate <= :endOfDay")
-    Optional<Coupon> findCouponForRead(@Param("startOfDay") LocalDateTime startOfDay,
-                                       @Param("endOfDay") LocalDateTime endOfDay);
+    // 해당 날짜 쿠폰 발행 여부
+    boolean existsByCouponDate(LocalDate couponDate);
 }
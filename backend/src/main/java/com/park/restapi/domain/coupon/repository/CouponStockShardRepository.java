@@ -0,0 +1,31 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.coupon.entity.CouponStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CouponStockShardRepository extends JpaRepository<CouponStockShard, Long> {
+
+    // 재고 조각에서 한 개 차감, 비어 있으면 0
+    @Modifying
+    @Query("update CouponStockShard s set s.remainingQuantity = s.remainingQuantity - 1 " +
+            "where s.couponDate = :couponDate and s.shardNo = :shardNo and s.remainingQuantity > 0")
+    int decrease(@Param("couponDate") LocalDate couponDate, @Param("shardNo") int shardNo);
+
+    // 재고가 남은 조각 번호
+    @Query("select s.shardNo from CouponStockShard s where s.couponDate = :couponDate and s.remainingQuantity > 0")
+    List<Integer> findNonEmptyShardNos(@Param("couponDate") LocalDate couponDate);
+
+    // 남은 쿠폰 수(모든 조각의 합)
+    @Query("select coalesce(sum(s.remainingQuantity), 0) from CouponStockShard s where s.couponDate = :couponDate")
+    long sumRemaining(@Param("couponDate") LocalDate couponDate);
+
+    List<CouponStockShard> findByCouponDateOrderByShardNoAsc(LocalDate couponDate);
+}
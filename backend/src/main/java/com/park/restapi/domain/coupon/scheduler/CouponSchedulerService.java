@@ -1,42 +1,75 @@
 package com.park.restapi.domain.coupon.scheduler;
 
-import com.park.restapi.domain.coupon.entity.Coupon;
-import com.park.restapi.domain.coupon.entity.CouponSetting;
-import com.park.restapi.domain.coupon.repository.CouponHistoryRepository;
-import com.park.restapi.domain.coupon.repository.CouponRepository;
-import com.park.restapi.domain.coupon.repository.CouponSettingRepository;
-import jakarta.transaction.Transactional;
+import com.park.restapi.domain.coupon.service.CouponCampaignService;
+import com.park.restapi.domain.coupon.service.CouponService;
+import com.park.restapi.domain.scheduler.service.ExclusiveJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CouponSchedulerService {
-    private final CouponHistoryRepository couponHistoryRepository;
-    private final CouponRepository couponRepository;
-    private final CouponSettingRepository couponSettingRepository;
 
-    // 쿠폰 발급 스케줄러
+    private static final String GENERATE_COUPON_JOB = "coupon-generate";
+    private static final String PREWARM_COUPON_JOB = "coupon-prewarm";
+    private static final String CAMPAIGN_STATUS_JOB = "coupon-campaign-status";
+
+    private final CouponService couponService;
+    private final CouponCampaignService couponCampaignService;
+    private final ExclusiveJobRunner exclusiveJobRunner;
+
+    // 다음 날 쿠폰 미리 발행(여러 서버 중 한 곳에서만 실행), 자정에 행 생성과 첫 요청이 겹치지 않게 한다.
+    @Scheduled(cron = "0 59 23 * * *", zone = "Asia/Seoul")
+    public void prewarmCoupon() {
+        issue(PREWARM_COUPON_JOB, LocalDate.now().plusDays(1));
+    }
+
+    // 쿠폰 발급 스케줄러, 미리 발행에 실패한 경우를 위한 대비(여러 서버 중 한 곳에서만 실행)
     @Scheduled(cron = "01 0 0 * * *", zone = "Asia/Seoul")
-    @Transactional(rollbackOn = Exception.class)
     public void generatedCoupon() {
+        issue(GENERATE_COUPON_JOB, LocalDate.now());
+    }
+
+    // 진행 중 이벤트와 남은 수량 동기화(모든 서버에서 실행, 조회만 한다)
+    @Scheduled(fixedDelay = 1000)
+    public void syncCampaigns() {
+        try {
+            couponCampaignService.syncCampaigns();
+        } catch (Exception e) {
+            log.error("쿠폰 이벤트 동기화 중 예외 발생", e);
+        }
+    }
+
+    // 쿠폰 이벤트 시작/종료 상태 변경(여러 서버 중 한 곳에서만 실행)
+    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    public void updateCampaignStatuses() {
+        try {
+            exclusiveJobRunner.run(CAMPAIGN_STATUS_JOB, Duration.ofMinutes(1), Duration.ofSeconds(30),
+                    couponCampaignService::updateCampaignStatuses);
+        } catch (Exception e) {
+            log.error("쿠폰 이벤트 상태 변경 중 예외 발생", e);
+        }
+    }
+
+    private void issue(String jobName, LocalDate couponDate) {
         try {
-            // 쿠폰 설정이 true면 생성
-            CouponSetting couponSetting = couponSettingRepository.findAll().get(0);
-            if (couponSetting.getIsDailyCouponGenerate()) {
-                log.info("선착순 쿠폰 발행 시작");
-                Coupon coupon = Coupon.builder()
-                        .remainingQuantity(couponSetting.getDailyCouponQuantity())
-                        .totalQuantity(couponSetting.getDailyCouponQuantity()).build();
-
-                couponRepository.save(coupon);
-                log.info("선착순 쿠폰 발행 성공");
-            }
+            exclusiveJobRunner.run(jobName, Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+                log.info("선착순 쿠폰 발행 시작 - 발행일 : {}", couponDate);
+                if (couponService.issueDailyCoupon(couponDate)) {
+                    log.info("선착순 쿠폰 발행 성공 - 발행일 : {}", couponDate);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 서버에서 이미 쿠폰을 발행했습니다. 발행일 : {}", couponDate);
         } catch (Exception e) {
-            log.error("선착순 쿠폰 발행 중 예외 발생", e);
+            log.error("선착순 쿠폰 발행 중 예외 발생 - 발행일 : {}", couponDate, e);
         }
     }
 }
@@ -0,0 +1,23 @@
+package com.park.restapi.domain.coupon.service;
+
+import com.park.restapi.domain.coupon.dto.request.CreateCouponCampaignRequestDTO;
+import com.park.restapi.domain.coupon.dto.response.CouponCampaignResponseDTO;
+
+import java.util.List;
+
+public interface CouponCampaignService {
+    // 쿠폰 이벤트 생성(관리자)
+    CouponCampaignResponseDTO createCampaign(CreateCouponCampaignRequestDTO requestDTO);
+
+    // 진행 중인 쿠폰 이벤트 조회
+    List<CouponCampaignResponseDTO> getRunningCampaigns();
+
+    // 쿠폰 이벤트 쿠폰 획득, 남은 쿠폰 수 반환
+    int claimCampaign(Long campaignId);
+
+    // 진행 중인 이벤트와 남은 수량을 DB 값으로 동기화(스케줄러, 모든 서버)
+    void syncCampaigns();
+
+    // 쿠폰 이벤트 시작/종료 상태 변경(스케줄러, 한 서버)
+    void updateCampaignStatuses();
+}
@@ -0,0 +1,11 @@
+package com.park.restapi.domain.coupon.service;
+
+import com.park.restapi.domain.coupon.dto.response.CouponClaimResponseDTO;
+
+public interface CouponClaimService {
+    // 쿠폰 획득 요청, 번호표를 바로 발급하고 결과는 대기열에서 순서대로 처리된다.
+    CouponClaimResponseDTO requestClaim();
+
+    // 내 쿠폰 획득 요청 결과 조회
+    CouponClaimResponseDTO getClaim();
+}
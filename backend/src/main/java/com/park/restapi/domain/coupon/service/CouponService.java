@@ -4,9 +4,11 @@ import com.park.restapi.domain.coupon.dto.request.UpdateCouponQuantityRequestDTO
 import com.park.restapi.domain.coupon.dto.request.UpdateCouponSettingRequestDTO;
 import com.park.restapi.domain.coupon.dto.response.CouponSettingResponseDTO;
 
+import java.time.LocalDate;
+
 public interface CouponService {
-    // 쿠폰 획득
-    void acquisitionCoupon();
+    // 쿠폰 획득(획득 대기열에서 순서대로 호출), 요청한 날의 쿠폰에서 차감한다.
+    void acquisitionCoupon(Long memberId, LocalDate couponDate);
 
     // 쿠폰 조회
     int getCoupons();
@@ -19,4 +21,7 @@ public interface CouponService {
 
     // 쿠폰 개수 변경하기(관리자)
     int updateCouponQuantity(UpdateCouponQuantityRequestDTO requestDTO);
+
+    // 일일 쿠폰 발행(스케줄러), 이미 발행됐거나 설정이 꺼져 있으면 false
+    boolean issueDailyCoupon(LocalDate couponDate);
 }
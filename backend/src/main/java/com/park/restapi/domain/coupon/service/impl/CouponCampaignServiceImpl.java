@@ -0,0 +1,215 @@
+package com.park.restapi.domain.coupon.service.impl;
+
+import com.park.restapi.domain.coupon.dto.request.CreateCouponCampaignRequestDTO;
+import com.park.restapi.domain.coupon.dto.response.CouponCampaignResponseDTO;
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import com.park.restapi.domain.coupon.entity.CouponCampaignHistory;
+import com.park.restapi.domain.coupon.entity.CouponCampaignStatus;
+import com.park.restapi.domain.coupon.entity.CouponCampaignStockShard;
+import com.park.restapi.domain.coupon.repository.CouponCampaignHistoryRepository;
+import com.park.restapi.domain.coupon.repository.CouponCampaignRepository;
+import com.park.restapi.domain.coupon.repository.CouponCampaignStockShardRepository;
+import com.park.restapi.domain.coupon.service.CouponCampaignService;
+import com.park.restapi.domain.coupon.store.CampaignRemaining;
+import com.park.restapi.domain.coupon.store.CampaignStock;
+import com.park.restapi.domain.coupon.store.CouponCampaignStore;
+import com.park.restapi.domain.exception.exception.CouponException;
+import com.park.restapi.domain.exception.exception.MemberException;
+import com.park.restapi.domain.exception.info.CouponExceptionInfo;
+import com.park.restapi.domain.exception.info.MemberExceptionInfo;
+import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.transaction.AfterCompletion;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponCampaignServiceImpl implements CouponCampaignService {
+
+    private static final String CLAIM_METRIC = "coupon.campaign.claim";
+    // 이벤트 수량을 나눠 담는 재고 조각 수
+    private static final int STOCK_SHARDS = 8;
+
+    private final CouponCampaignRepository couponCampaignRepository;
+    private final CouponCampaignStockShardRepository couponCampaignStockShardRepository;
+    private final CouponCampaignHistoryRepository couponCampaignHistoryRepository;
+    private final MemberRepository memberRepository;
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+    private final CouponCampaignStore couponCampaignStore;
+
+    // 쿠폰 이벤트 생성(관리자)
+    @Override
+    @Transactional
+    public CouponCampaignResponseDTO createCampaign(CreateCouponCampaignRequestDTO requestDTO) {
+        if (!requestDTO.endAt().isAfter(requestDTO.startAt())) {
+            throw new CouponException(CouponExceptionInfo.INVALID_CAMPAIGN_PERIOD,
+                    "시작 : " + requestDTO.startAt() + ", 종료 : " + requestDTO.endAt());
+        }
+
+        CouponCampaign campaign = CouponCampaign.builder()
+                .name(requestDTO.name())
+                .startAt(requestDTO.startAt())
+                .endAt(requestDTO.endAt())
+                .totalQuantity(requestDTO.totalQuantity())
+                .perMemberLimit(requestDTO.perMemberLimit())
+                .tokenAmount(requestDTO.tokenAmount()).build();
+        couponCampaignRepository.save(campaign);
+        createStockShards(campaign.getId(), campaign.getTotalQuantity());
+
+        return CouponCampaignResponseDTO.toDTO(campaign);
+    }
+
+    // 진행 중인 쿠폰 이벤트 조회(메모리)
+    @Override
+    public List<CouponCampaignResponseDTO> getRunningCampaigns() {
+        LocalDateTime now = LocalDateTime.now();
+        return couponCampaignStore.getRunning().stream()
+                .filter(stock -> stock.isOpen(now))
+                .map(CouponCampaignResponseDTO::toDTO)
+                .toList();
+    }
+
+    // 쿠폰 이벤트 쿠폰 획득
+    // 매진, 횟수 초과는 메모리에서 먼저 걸러내고, 통과한 요청만 이력 insert 와 조건부 update 로 확정한다.
+    @Override
+    @Transactional
+    public int claimCampaign(Long campaignId) {
+        CampaignStock stock = couponCampaignStore.find(campaignId, LocalDateTime.now())
+                .orElseThrow(() -> new CouponException(CouponExceptionInfo.NOT_RUNNING_CAMPAIGN,
+                        campaignId + "번 쿠폰 이벤트는 진행 중이 아닙니다."));
+        if (stock.isSoldOut()) {
+            countClaim("sold_out");
+            throw new CouponException(CouponExceptionInfo.NOT_EXIST_COUPON, campaignId + "번 쿠폰 이벤트 쿠폰 소진");
+        }
+
+        Member member = getCurrentMember();
+        Long memberId = member.getId();
+        int claimed = stock.claimedCount(memberId, id -> couponCampaignHistoryRepository.countClaims(campaignId, id));
+        if (claimed >= stock.getPerMemberLimit()) {
+            countClaim("limit");
+            throw new CouponException(CouponExceptionInfo.CAMPAIGN_LIMIT_EXCEEDED,
+                    memberId + "번 유저 " + campaignId + "번 쿠폰 이벤트 획득 횟수 초과");
+        }
+        if (!stock.tryAcquire()) {
+            countClaim("sold_out");
+            throw new CouponException(CouponExceptionInfo.NOT_EXIST_COUPON, campaignId + "번 쿠폰 이벤트 쿠폰 소진");
+        }
+
+        // 커밋되면 획득 횟수 반영, 롤백되면 선점한 재고 반환
+        int claimSeq = claimed + 1;
+        AfterCompletion.run(() -> stock.recordClaim(memberId, claimSeq), stock::release);
+
+        // (campaign_id, member_id, claim_seq) 유니크 키가 다른 서버와 동시에 획득한 경우를 막는다.
+        try {
+            couponCampaignHistoryRepository.saveAndFlush(CouponCampaignHistory.builder()
+                    .campaign(couponCampaignRepository.getReferenceById(campaignId))
+                    .member(member)
+                    .claimSeq(claimSeq)
+                    .tokenAmount(stock.getTokenAmount()).build());
+        } catch (DataIntegrityViolationException e) {
+            stock.forget(memberId);
+            countClaim("duplicate");
+            throw new CouponException(CouponExceptionInfo.CAMPAIGN_LIMIT_EXCEEDED,
+                    memberId + "번 유저 " + campaignId + "번 쿠폰 이벤트 중복 획득");
+        }
+
+        // 유저별로 정해진 재고 조각에서 차감하고, 비어 있으면 재고가 남은 다른 조각에서 가져온다.
+        int homeShard = shardOf(memberId);
+        if (couponCampaignStockShardRepository.decrease(campaignId, homeShard) == 0
+                && !stealFromOtherShards(campaignId, homeShard)) {
+            stock.markSoldOut();
+            countClaim("sold_out");
+            throw new CouponException(CouponExceptionInfo.NOT_EXIST_COUPON, campaignId + "번 쿠폰 이벤트 쿠폰 소진(DB)");
+        }
+
+        member.increasedToken(stock.getTokenAmount());
+        memberRepository.increaseAcquiredTokens(memberId, stock.getTokenAmount());
+        countClaim("success");
+        return stock.getRemaining();
+    }
+
+    // 진행 중인 이벤트와 남은 수량 동기화, 조회만 하므로 모든 서버에서 실행한다.
+    @Override
+    @Transactional(readOnly = true)
+    public void syncCampaigns() {
+        List<CouponCampaign> running = couponCampaignRepository.findRunning(CouponCampaignStatus.ENDED, LocalDateTime.now());
+        if (running.isEmpty()) {
+            couponCampaignStore.sync(running, Map.of());
+            return;
+        }
+
+        List<Long> campaignIds = running.stream().map(CouponCampaign::getId).toList();
+        Map<Long, Integer> remaining = couponCampaignStockShardRepository.sumRemaining(campaignIds).stream()
+                .collect(Collectors.toMap(CampaignRemaining::campaignId, sum -> sum.remaining().intValue()));
+        couponCampaignStore.sync(running, remaining);
+    }
+
+    // 쿠폰 이벤트 시작/종료 상태 변경, 획득 가능 여부는 기간으로 판단하므로 관리 화면 표시용이다.
+    @Override
+    @Transactional
+    public void updateCampaignStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        int activated = couponCampaignRepository.activate(CouponCampaignStatus.SCHEDULED, CouponCampaignStatus.ACTIVE, now);
+        int expired = couponCampaignRepository.expire(CouponCampaignStatus.ENDED, now);
+        if (activated > 0 || expired > 0) {
+            log.info("쿠폰 이벤트 상태 변경 - 시작 : {}, 종료 : {}", activated, expired);
+        }
+    }
+
+    // 다른 재고 조각에서 차감, 유저마다 자기 조각 다음 번호부터 시도해서 한 조각으로 몰리지 않게 한다.
+    private boolean stealFromOtherShards(Long campaignId, int homeShard) {
+        List<Integer> shardNos = new ArrayList<>(couponCampaignStockShardRepository.findNonEmptyShardNos(campaignId));
+        shardNos.sort(Comparator.comparingInt(shardNo -> Math.floorMod(shardNo - homeShard, STOCK_SHARDS)));
+
+        for (int shardNo : shardNos) {
+            if (shardNo != homeShard && couponCampaignStockShardRepository.decrease(campaignId, shardNo) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 수량을 재고 조각에 고르게 나눠 담는다(나머지는 앞 번호 조각부터 하나씩).
+    private void createStockShards(Long campaignId, int quantity) {
+        List<CouponCampaignStockShard> shards = new ArrayList<>(STOCK_SHARDS);
+        for (int shardNo = 0; shardNo < STOCK_SHARDS; shardNo++) {
+            shards.add(CouponCampaignStockShard.builder()
+                    .campaignId(campaignId)
+                    .shardNo(shardNo)
+                    .remainingQuantity(quantity / STOCK_SHARDS + (shardNo < quantity % STOCK_SHARDS ? 1 : 0)).build());
+        }
+        couponCampaignStockShardRepository.saveAll(shards);
+    }
+
+    // 유저가 먼저 차감할 재고 조각 번호
+    private int shardOf(Long memberId) {
+        return Math.floorMod(Long.hashCode(memberId * 0x9E3779B97F4A7C15L), STOCK_SHARDS);
+    }
+
+    // 쿠폰 이벤트 획득 시도 결과 집계
+    private void countClaim(String result) {
+        meterRegistry.counter(CLAIM_METRIC, "result", result).increment();
+    }
+
+    // 현재 로그인 유저 찾기
+    private Member getCurrentMember() {
+        Long currentUserId = jwtService.getCurrentUserId();
+        return memberRepository.findById(currentUserId)
+                .orElseThrow(() -> new MemberException(MemberExceptionInfo.NOT_FOUND_MEMBER, currentUserId + "번 유저를 찾지 못했습니다."));
+    }
+}
@@ -0,0 +1,205 @@
+package com.park.restapi.domain.coupon.service.impl;
+
+import com.park.restapi.domain.coupon.dto.response.CouponClaimResponseDTO;
+import com.park.restapi.domain.coupon.service.CouponClaimService;
+import com.park.restapi.domain.coupon.service.CouponService;
+import com.park.restapi.domain.coupon.store.CouponClaimStatus;
+import com.park.restapi.domain.coupon.store.CouponClaimTicket;
+import com.park.restapi.domain.coupon.store.CouponStockSnapshot;
+import com.park.restapi.domain.exception.exception.CouponException;
+import com.park.restapi.domain.exception.exception.MemberException;
+import com.park.restapi.domain.exception.info.CouponExceptionInfo;
+import com.park.restapi.domain.exception.info.MemberExceptionInfo;
+import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 선착순 쿠폰 획득 대기열.
+ * 요청 스레드는 번호표만 받고 바로 돌아가고, 전용 스레드 하나가 도착 순서대로 재고를 차감한다.
+ * 재고가 소진되면 같은 날의 남은 번호표는 한 번에 거절하고, 날짜가 바뀔 때까지 처리되지 못한 번호표는 만료시킨다.
+ * 결과는 user 토픽으로 전달되고, 클라이언트는 요청 전에 구독해서 결과를 기다린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponClaimServiceImpl implements CouponClaimService {
+
+    // 서버 하나에서 기다릴 수 있는 최대 요청 수
+    private static final int MAX_WAITING = 10_000;
+    // 처리가 끝난 번호표 보관 시간
+    private static final long RESULT_TTL_MILLIS = 10 * 60 * 1000L;
+    private static final String CLAIM_EVENT = "coupon-claim";
+    private static final String CLAIM_CLOSED_EVENT = "coupon-claim-closed";
+
+    private final CouponService couponService;
+    private final CouponStockSnapshot couponStockSnapshot;
+    private final JwtService jwtService;
+    private final WebSocketPublisher webSocketPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong nextTicket = new AtomicLong();
+    private final BlockingQueue<CouponClaimTicket> waiting = new LinkedBlockingQueue<>(MAX_WAITING);
+    private final ConcurrentHashMap<Long, CouponClaimTicket> ticketsByMember = new ConcurrentHashMap<>();
+    private volatile long lastProcessedTicket;
+    private volatile boolean running;
+    private Thread consumer;
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("coupon.claim.queue.waiting", waiting, BlockingQueue::size)
+                .description("쿠폰 획득 대기 중인 요청 수")
+                .register(meterRegistry);
+
+        running = true;
+        consumer = new Thread(this::consume, "coupon-claim-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        consumer.interrupt();
+    }
+
+    // 쿠폰 획득 요청, 같은 유저가 여러 번 요청하면 기존 번호표를 돌려준다.
+    @Override
+    public CouponClaimResponseDTO requestClaim() {
+        Long memberId = jwtService.getCurrentUserId();
+        LocalDate today = LocalDate.now();
+
+        CouponClaimTicket[] created = new CouponClaimTicket[1];
+        CouponClaimTicket ticket = ticketsByMember.compute(memberId, (id, current) -> {
+            if (current != null && current.isReusable(today)) {
+                return current;
+            }
+            created[0] = new CouponClaimTicket(nextTicket.incrementAndGet(), memberId, today);
+            return created[0];
+        });
+
+        if (ticket == created[0]) {
+            // 이미 소진된 날은 대기열에 넣지 않는다.
+            Integer remaining = couponStockSnapshot.getRemaining(today);
+            if (remaining != null && remaining <= 0) {
+                ticket.finish(CouponClaimStatus.SOLD_OUT, System.currentTimeMillis());
+            } else if (!waiting.offer(ticket)) {
+                ticketsByMember.remove(memberId, ticket);
+                throw new CouponException(CouponExceptionInfo.CLAIM_QUEUE_FULL, "쿠폰 획득 대기열 가득 참 - 대기 : " + waiting.size());
+            }
+        }
+
+        return CouponClaimResponseDTO.toDTO(ticket, lastProcessedTicket);
+    }
+
+    // 내 쿠폰 획득 요청 결과 조회
+    @Override
+    public CouponClaimResponseDTO getClaim() {
+        Long memberId = jwtService.getCurrentUserId();
+        CouponClaimTicket ticket = ticketsByMember.get(memberId);
+        if (ticket == null) {
+            throw new CouponException(CouponExceptionInfo.NOT_FOUND_CLAIM, memberId + "번 유저 쿠폰 획득 요청 내역 없음");
+        }
+        return CouponClaimResponseDTO.toDTO(ticket, lastProcessedTicket);
+    }
+
+    // 처리가 끝난 지 오래된 번호표 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinished() {
+        long expiredBefore = System.currentTimeMillis() - RESULT_TTL_MILLIS;
+        ticketsByMember.values().removeIf(ticket -> !ticket.isWaiting() && ticket.getFinishedAtMillis() < expiredBefore);
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                processNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("쿠폰 획득 대기열 처리 중 예외 발생", e);
+            }
+        }
+    }
+
+    // 대기열의 다음 번호표 처리, 비어 있으면 기다린다.
+    void processNext() throws InterruptedException {
+        process(waiting.take());
+    }
+
+    private void process(CouponClaimTicket ticket) {
+        // 전날 요청이 자정을 넘겨 처리되면 다음 날 쿠폰을 가져가지 않도록 만료시킨다.
+        if (!ticket.getCouponDate().equals(LocalDate.now())) {
+            lastProcessedTicket = ticket.getNumber();
+            finish(ticket, CouponClaimStatus.EXPIRED);
+            return;
+        }
+
+        CouponClaimStatus result;
+        try {
+            couponService.acquisitionCoupon(ticket.getMemberId(), ticket.getCouponDate());
+            result = CouponClaimStatus.CLAIMED;
+        } catch (MemberException e) {
+            result = e.getException() == MemberExceptionInfo.ALREADY_GET_COUPON
+                    ? CouponClaimStatus.ALREADY_CLAIMED : CouponClaimStatus.FAILED;
+        } catch (CouponException e) {
+            result = e.getException() == CouponExceptionInfo.NOT_EXIST_COUPON
+                    ? CouponClaimStatus.SOLD_OUT : CouponClaimStatus.FAILED;
+        } catch (RuntimeException e) {
+            log.error("쿠폰 획득 실패 - 번호표 : {}, 유저 ID : {}", ticket.getNumber(), ticket.getMemberId(), e);
+            result = CouponClaimStatus.FAILED;
+        }
+
+        lastProcessedTicket = ticket.getNumber();
+        finish(ticket, result);
+
+        if (result == CouponClaimStatus.SOLD_OUT) {
+            couponStockSnapshot.set(ticket.getCouponDate(), 0);
+            rejectWaiting(ticket.getCouponDate());
+        }
+    }
+
+    // 재고 소진, 같은 날(또는 이전 날) 대기 중인 번호표를 한 번에 거절하고 coupon 토픽으로 한 번만 알린다.
+    // 자정 이후에 들어온 다음 날 번호표는 그대로 둔다.
+    private void rejectWaiting(LocalDate couponDate) {
+        List<CouponClaimTicket> rejected = new ArrayList<>();
+        waiting.removeIf(ticket -> !ticket.getCouponDate().isAfter(couponDate) && rejected.add(ticket));
+        if (rejected.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (CouponClaimTicket ticket : rejected) {
+            ticket.finish(CouponClaimStatus.SOLD_OUT, now);
+        }
+
+        webSocketPublisher.publish(WebSocketTopic.COUPON, CLAIM_CLOSED_EVENT,
+                Map.of("date", couponDate.toString(), "lastTicket", rejected.get(rejected.size() - 1).getNumber()));
+        log.info("쿠폰 소진으로 대기 요청 일괄 거절 - 발행일 : {}, 거절 수 : {}", couponDate, rejected.size());
+    }
+
+    private void finish(CouponClaimTicket ticket, CouponClaimStatus result) {
+        if (ticket.finish(result, System.currentTimeMillis())) {
+            webSocketPublisher.publish(WebSocketTopic.user(ticket.getMemberId()), CLAIM_EVENT,
+                    Map.of("ticket", ticket.getNumber(), "status", result.name()));
+        }
+    }
+}
@@ -6,25 +6,30 @@ import com.park.restapi.domain.coupon.dto.response.CouponSettingResponseDTO;
 import com.park.restapi.domain.coupon.entity.Coupon;
 import com.park.restapi.domain.coupon.entity.CouponHistory;
 import com.park.restapi.domain.coupon.entity.CouponSetting;
+import com.park.restapi.domain.coupon.entity.CouponStockShard;
 import com.park.restapi.domain.coupon.repository.CouponHistoryRepository;
 import com.park.restapi.domain.coupon.repository.CouponRepository;
 import com.park.restapi.domain.coupon.repository.CouponSettingRepository;
+import com.park.restapi.domain.coupon.repository.CouponStockShardRepository;
 import com.park.restapi.domain.coupon.service.CouponService;
+import com.park.restapi.domain.coupon.store.CouponStockSnapshot;
 import com.park.restapi.domain.exception.exception.CouponException;
 import com.park.restapi.domain.exception.exception.MemberException;
 import com.park.restapi.domain.exception.info.CouponExceptionInfo;
 import com.park.restapi.domain.exception.info.MemberExceptionInfo;
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.repository.MemberRepository;
-import com.park.restapi.util.jwt.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -32,56 +37,65 @@ import java.util.Optional;
 @Slf4j
 public class CouponServiceImpl implements CouponService {
 
+    private static final String CLAIM_METRIC = "coupon.claim";
+    // 하루 쿠폰 수량을 나눠 담는 재고 조각 수
+    private static final int STOCK_SHARDS = 8;
+
     private final CouponRepository couponRepository;
     private final CouponHistoryRepository couponHistoryRepository;
     private final CouponSettingRepository couponSettingRepository;
+    private final CouponStockShardRepository couponStockShardRepository;
     private final MemberRepository memberRepository;
-    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+    private final CouponStockSnapshot couponStockSnapshot;
 
     // 쿠폰 획득
     @Override
     @Transactional
-    public void acquisitionCoupon() {
-        Member member = getCurrentMember();
-
-        // 오늘 획득한 이력이 있으면 중복 불가.
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        CouponHistory byCouponHistory = couponHistoryRepository.findByCouponHistory(startOfDay, endOfDay, member);
-
-        if (byCouponHistory != null) {
-            throw new MemberException(MemberExceptionInfo.ALREADY_GET_COUPON, "이미 쿠폰 획득 완료.");
+    public void acquisitionCoupon(Long memberId, LocalDate couponDate) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberException(MemberExceptionInfo.NOT_FOUND_MEMBER, memberId + "번 유저를 찾지 못했습니다."));
+
+        // 같은 날 획득한 이력이 있으면 중복 불가, (member_id, coupon_date) 유니크 키가 막는다.
+        // 재고 행 잠금보다 먼저 기록해서 중복 요청은 잠금을 기다리지 않고 바로 실패한다.
+        try {
+            couponHistoryRepository.saveAndFlush(CouponHistory.builder()
+                    .member(member)
+                    .couponDate(couponDate).build());
+        } catch (DataIntegrityViolationException e) {
+            countClaim("duplicate");
+            throw new MemberException(MemberExceptionInfo.ALREADY_GET_COUPON, member.getId() + "번 유저 이미 쿠폰 획득 완료.");
         }
 
-        // 쿠폰이 남아있는지 확인
-        Coupon coupon = couponRepository.findByCouponForWrite(startOfDay, endOfDay)
-                .orElseThrow(() -> new CouponException(CouponExceptionInfo.FAIL_COUPON_DATA, "DB에 쿠폰 데이터 존재하지 않음."));
-
-        if (coupon.getRemainingQuantity() < 1) {
+        // 유저별로 정해진 재고 조각에서 차감하고, 비어 있으면 재고가 남은 다른 조각에서 가져온다.
+        int homeShard = shardOf(member.getId());
+        if (couponStockShardRepository.decrease(couponDate, homeShard) == 0 && !stealFromOtherShards(couponDate, homeShard)) {
+            countClaim("sold_out");
             throw new CouponException(CouponExceptionInfo.NOT_EXIST_COUPON, "쿠폰 품절");
         }
-        // 쿠폰 감소
-        coupon.decreasedCoupon();
 
         // 유저 토큰 + 1
         member.increasedToken();
+        memberRepository.increaseAcquiredTokens(member.getId(), 1);
 
-        CouponHistory couponHistory = CouponHistory.builder()
-                .member(member).build();
-        couponHistoryRepository.save(couponHistory);
+        // 남은 수 합계는 다시 조회하지 않고 스냅샷에서 1 줄인다.
+        couponStockSnapshot.decreaseAfterCommit(couponDate);
+        countClaim("success");
         log.info("쿠폰 획득 성공");
     }
 
-    // 남은 선착순 쿠폰 조회
+    // 남은 선착순 쿠폰 조회, 스냅샷이 있으면 DB 를 조회하지 않는다.
     @Override
-    @Transactional(readOnly = true)
     public int getCoupons() {
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
+        LocalDate today = LocalDate.now();
+        Integer cached = couponStockSnapshot.getRemaining(today);
+        if (cached != null) {
+            return cached;
+        }
 
-        return couponRepository.findCouponForRead(startOfDay, endOfDay)
-                .map(Coupon::getRemainingQuantity)
-                .orElse(0);
+        int remaining = (int) couponStockShardRepository.sumRemaining(today);
+        couponStockSnapshot.set(today, remaining);
+        return remaining;
     }
 
     // 쿠폰 설정 가져오기
@@ -107,31 +121,91 @@ public class CouponServiceImpl implements CouponService {
     @Transactional
     public int updateCouponQuantity(UpdateCouponQuantityRequestDTO requestDTO) {
         Coupon coupon = null;
+        LocalDate today = LocalDate.now();
 
         // 오늘 발급된 쿠폰이 있는지 확인
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-
-        Optional<Coupon> byCouponForWrite = couponRepository.findByCouponForWrite(startOfDay, endOfDay);
+        Optional<Coupon> byCouponForWrite = couponRepository.findByCouponForWrite(today);
 
         // 발급된 쿠폰이 없으면 새로 발급
         if (byCouponForWrite.isEmpty()) {
             coupon = Coupon.builder()
-                    .totalQuantity(requestDTO.dailyCouponQuantity())
-                    .remainingQuantity(requestDTO.dailyCouponQuantity()).build();
+                    .couponDate(today)
+                    .totalQuantity(requestDTO.dailyCouponQuantity()).build();
             couponRepository.save(coupon);
         } else {
             coupon = byCouponForWrite.get();
             coupon.updateCouponQuantity(requestDTO.dailyCouponQuantity());
         }
+        resetStockShards(today, coupon.getTotalQuantity());
+
+        couponStockSnapshot.setAfterCommit(today, coupon.getTotalQuantity());
+        return coupon.getTotalQuantity();
+    }
+
+    // 일일 쿠폰 발행, 같은 날짜는 유니크 키로 한 번만 발행된다.
+    @Override
+    @Transactional
+    public boolean issueDailyCoupon(LocalDate couponDate) {
+        CouponSetting couponSetting = couponSettingRepository.findTopByOrderByIdAsc();
+        if (!couponSetting.getIsDailyCouponGenerate()) {
+            return false;
+        }
+        if (couponRepository.existsByCouponDate(couponDate)) {
+            log.info("이미 발행된 쿠폰입니다. 발행일 : {}", couponDate);
+            return false;
+        }
+
+        Coupon coupon = Coupon.builder()
+                .couponDate(couponDate)
+                .totalQuantity(couponSetting.getDailyCouponQuantity()).build();
+        couponRepository.save(coupon);
+        resetStockShards(couponDate, coupon.getTotalQuantity());
+
+        // 자정 전에 미리 발행한 쿠폰은 날짜가 바뀔 때 스냅샷에 반영된다.
+        if (couponDate.isAfter(LocalDate.now())) {
+            couponStockSnapshot.prepareAfterCommit(couponDate, coupon.getTotalQuantity());
+        } else {
+            couponStockSnapshot.setAfterCommit(couponDate, coupon.getTotalQuantity());
+        }
+        return true;
+    }
+
+    // 다른 재고 조각에서 차감, 유저마다 자기 조각 다음 번호부터 시도해서 한 조각으로 몰리지 않게 한다.
+    private boolean stealFromOtherShards(LocalDate couponDate, int homeShard) {
+        List<Integer> shardNos = new ArrayList<>(couponStockShardRepository.findNonEmptyShardNos(couponDate));
+        shardNos.sort(Comparator.comparingInt(shardNo -> Math.floorMod(shardNo - homeShard, STOCK_SHARDS)));
+
+        for (int shardNo : shardNos) {
+            if (shardNo != homeShard && couponStockShardRepository.decrease(couponDate, shardNo) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 수량을 재고 조각에 고르게 나눠 담는다(나머지는 앞 번호 조각부터 하나씩).
+    private void resetStockShards(LocalDate couponDate, int quantity) {
+        List<CouponStockShard> shards = couponStockShardRepository.findByCouponDateOrderByShardNoAsc(couponDate);
+        for (int shardNo = 0; shardNo < STOCK_SHARDS; shardNo++) {
+            int shardQuantity = quantity / STOCK_SHARDS + (shardNo < quantity % STOCK_SHARDS ? 1 : 0);
+            if (shardNo < shards.size()) {
+                shards.get(shardNo).updateRemainingQuantity(shardQuantity);
+            } else {
+                couponStockShardRepository.save(CouponStockShard.builder()
+                        .couponDate(couponDate)
+                        .shardNo(shardNo)
+                        .remainingQuantity(shardQuantity).build());
+            }
+        }
+    }
 
-        return coupon.getRemainingQuantity();
+    // 유저가 먼저 차감할 재고 조각 번호
+    private int shardOf(Long memberId) {
+        return Math.floorMod(Long.hashCode(memberId * 0x9E3779B97F4A7C15L), STOCK_SHARDS);
     }
 
-    // 현재 로그인 유저 찾기
-    private Member getCurrentMember() {
-        Long currentUserId = jwtService.getCurrentUserId();
-        return memberRepository.findById(currentUserId)
-                .orElseThrow(() -> new MemberException(MemberExceptionInfo.NOT_FOUND_MEMBER, currentUserId + "번 유저를 찾지 못했습니다."));
+    // 쿠폰 획득 시도 결과 집계
+    private void countClaim(String result) {
+        meterRegistry.counter(CLAIM_METRIC, "result", result).increment();
     }
 }
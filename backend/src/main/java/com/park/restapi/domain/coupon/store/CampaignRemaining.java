@@ -0,0 +1,5 @@
+package com.park.restapi.domain.coupon.store;
+
+// 쿠폰 이벤트별 남은 수량(재고 조각의 합)
+public record CampaignRemaining(Long campaignId, Long remaining) {
+}
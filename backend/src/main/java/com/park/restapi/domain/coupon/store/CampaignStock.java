@@ -0,0 +1,123 @@
+package com.park.restapi.domain.coupon.store;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 진행 중인 캠페인 하나의 재고와 유저별 획득 횟수.
+ * 재고는 CAS 로만 줄여서 잠금 없이 매진 여부를 판단하고, 실제 차감은 DB 재고 조각의 조건부 update 가 확정한다.
+ * 획득 횟수는 유저 ID 로 나눈 여러 맵에 나눠 담고 처음부터 재고 크기만큼 잡아 두어
+ * 오픈 직후 유저가 몰려도 맵 크기 조정으로 멈추지 않는다.
+ */
+@Getter
+public final class CampaignStock {
+
+    private static final int CLAIM_SHARDS = 16;
+
+    private final Long campaignId;
+    private final String name;
+    private final LocalDateTime endAt;
+    private final int totalQuantity;
+    private final int perMemberLimit;
+    private final int tokenAmount;
+
+    private final AtomicInteger remaining;
+    // DB 에서 매진이 확인되면 롤백된 선점 재고를 돌려받지 않는다.
+    private volatile boolean exhausted;
+    private final ConcurrentHashMap<Long, Integer>[] claims;
+
+    @SuppressWarnings("unchecked")
+    CampaignStock(CouponCampaign campaign, int dbRemaining) {
+        this.campaignId = campaign.getId();
+        this.name = campaign.getName();
+        this.endAt = campaign.getEndAt();
+        this.totalQuantity = campaign.getTotalQuantity();
+        this.perMemberLimit = campaign.getPerMemberLimit();
+        this.tokenAmount = campaign.getTokenAmount();
+        this.remaining = new AtomicInteger(dbRemaining);
+        this.exhausted = dbRemaining <= 0;
+
+        int shardCapacity = Math.max(16, campaign.getTotalQuantity() / CLAIM_SHARDS);
+        this.claims = new ConcurrentHashMap[CLAIM_SHARDS];
+        for (int i = 0; i < CLAIM_SHARDS; i++) {
+            claims[i] = new ConcurrentHashMap<>(shardCapacity);
+        }
+    }
+
+    public int getRemaining() {
+        return Math.max(0, remaining.get());
+    }
+
+    public boolean isOpen(LocalDateTime now) {
+        return now.isBefore(endAt);
+    }
+
+    public boolean isSoldOut() {
+        return remaining.get() <= 0;
+    }
+
+    // 재고 선점, 0 아래로 내려가지 않는다.
+    public boolean tryAcquire() {
+        while (true) {
+            int current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (remaining.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 트랜잭션이 롤백된 선점 재고 반환
+    public void release() {
+        if (!exhausted) {
+            remaining.incrementAndGet();
+        }
+    }
+
+    // DB 조건부 차감이 실패한 경우
+    public void markSoldOut() {
+        exhausted = true;
+        remaining.set(0);
+    }
+
+    // DB 값으로 동기화
+    void refresh(int dbRemaining) {
+        exhausted = dbRemaining <= 0;
+        remaining.set(dbRemaining);
+    }
+
+    // 유저의 획득 횟수, 이 서버에서 처음 보는 유저면 loader 로 DB 값을 읽어 채운다.
+    public int claimedCount(long memberId, LongToIntFunction loader) {
+        ConcurrentHashMap<Long, Integer> shard = shard(memberId);
+        Integer count = shard.get(memberId);
+        if (count != null) {
+            return count;
+        }
+
+        int loaded = loader.applyAsInt(memberId);
+        Integer previous = shard.putIfAbsent(memberId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    // 획득 커밋 반영
+    public void recordClaim(long memberId, int claimSeq) {
+        shard(memberId).merge(memberId, claimSeq, Math::max);
+    }
+
+    // 다른 서버에서 획득해서 캐시가 오래된 경우, 다음 요청에서 DB 값을 다시 읽는다.
+    public void forget(long memberId) {
+        shard(memberId).remove(memberId);
+    }
+
+    private ConcurrentHashMap<Long, Integer> shard(long memberId) {
+        long hash = memberId * 0x9E3779B97F4A7C15L;
+        return claims[(int) (hash >>> 60) & (CLAIM_SHARDS - 1)];
+    }
+}
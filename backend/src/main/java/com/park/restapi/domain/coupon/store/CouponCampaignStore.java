@@ -0,0 +1,51 @@
+package com.park.restapi.domain.coupon.store;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 캠페인 목록.
+ * 캠페인마다 재고와 획득 횟수를 따로 가지고 있어서 여러 캠페인이 동시에 열려도 서로 기다리지 않는다.
+ * 스케줄러가 DB 의 진행 중 캠페인 목록으로 주기적으로 동기화한다.
+ */
+@Component
+public class CouponCampaignStore {
+
+    private final ConcurrentHashMap<Long, CampaignStock> campaigns = new ConcurrentHashMap<>();
+
+    // 진행 중인 캠페인 조회
+    public Optional<CampaignStock> find(Long campaignId, LocalDateTime now) {
+        CampaignStock stock = campaigns.get(campaignId);
+        return stock != null && stock.isOpen(now) ? Optional.of(stock) : Optional.empty();
+    }
+
+    public Collection<CampaignStock> getRunning() {
+        return campaigns.values();
+    }
+
+    // DB 의 진행 중 캠페인과 남은 수량으로 교체, 새 캠페인은 추가하고 끝난 캠페인은 제거한다.
+    public void sync(List<CouponCampaign> running, Map<Long, Integer> remaining) {
+        Set<Long> runningIds = new HashSet<>();
+        for (CouponCampaign campaign : running) {
+            runningIds.add(campaign.getId());
+            int dbRemaining = remaining.getOrDefault(campaign.getId(), 0);
+            campaigns.compute(campaign.getId(), (id, existing) -> {
+                if (existing == null) {
+                    return new CampaignStock(campaign, dbRemaining);
+                }
+                existing.refresh(dbRemaining);
+                return existing;
+            });
+        }
+        campaigns.keySet().retainAll(runningIds);
+    }
+}
@@ -0,0 +1,6 @@
+package com.park.restapi.domain.coupon.store;
+
+public enum CouponClaimStatus {
+    // EXPIRED : 날짜가 바뀔 때까지 처리되지 못한 요청
+    WAITING, CLAIMED, ALREADY_CLAIMED, SOLD_OUT, FAILED, EXPIRED;
+}
@@ -0,0 +1,42 @@
+package com.park.restapi.domain.coupon.store;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 쿠폰 획득 대기 번호표, 처리 결과는 한 번만 기록된다.
+@Getter
+public final class CouponClaimTicket {
+
+    private final long number;
+    private final Long memberId;
+    private final LocalDate couponDate;
+    private volatile CouponClaimStatus status = CouponClaimStatus.WAITING;
+    private volatile long finishedAtMillis;
+
+    public CouponClaimTicket(long number, Long memberId, LocalDate couponDate) {
+        this.number = number;
+        this.memberId = memberId;
+        this.couponDate = couponDate;
+    }
+
+    public boolean isWaiting() {
+        return status == CouponClaimStatus.WAITING;
+    }
+
+    // 처리 결과 기록, 이미 끝난 번호표면 false
+    public synchronized boolean finish(CouponClaimStatus result, long nowMillis) {
+        if (!isWaiting()) {
+            return false;
+        }
+        this.finishedAtMillis = nowMillis;
+        this.status = result;
+        return true;
+    }
+
+    // 같은 날 다시 요청하면 이 번호표를 돌려준다(대기 중이거나 이미 받은 경우).
+    public boolean isReusable(LocalDate today) {
+        return couponDate.equals(today) && (isWaiting() || status == CouponClaimStatus.CLAIMED
+                || status == CouponClaimStatus.ALREADY_CLAIMED);
+    }
+}
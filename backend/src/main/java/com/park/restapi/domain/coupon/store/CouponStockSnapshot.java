@@ -0,0 +1,127 @@
+package com.park.restapi.domain.coupon.store;
+
+import com.park.restapi.domain.coupon.repository.CouponRepository;
+import com.park.restapi.domain.coupon.repository.CouponStockShardRepository;
+import com.park.restapi.util.transaction.AfterCommit;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 오늘 남은 선착순 쿠폰 수 스냅샷.
+ * 조회 API 는 DB 대신 이 값을 읽고, 값이 바뀌면 coupon 토픽으로 초당 최대 4번까지 묶어서 이 서버의 구독자에게만 전송한다.
+ * 커밋 순서가 뒤바뀌거나 다른 서버에서 획득한 경우를 위해 주기적으로 DB 값으로 맞춘다(다른 서버의 구독자는 그 서버의 스냅샷을 받는다).
+ * 다음 날 쿠폰은 자정 전에 미리 읽어 두었다가 날짜가 바뀌는 첫 조회에서 바로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponStockSnapshot {
+
+    private final CouponRepository couponRepository;
+    private final CouponStockShardRepository couponStockShardRepository;
+    private final WebSocketPublisher webSocketPublisher;
+
+    private final AtomicReference<Stock> stock = new AtomicReference<>();
+    // 미리 준비해 둔 다음 날 재고
+    private final AtomicReference<Stock> prepared = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 남은 쿠폰 수, 해당 날짜의 스냅샷이 없으면 null
+    public Integer getRemaining(LocalDate date) {
+        Stock current = stock.get();
+        if (current != null && current.date().equals(date)) {
+            return current.remaining();
+        }
+
+        // 날짜가 바뀌었으면 준비해 둔 재고로 교체
+        Stock next = prepared.get();
+        if (next == null || !next.date().equals(date)) {
+            return null;
+        }
+        if (stock.compareAndSet(current, next)) {
+            prepared.compareAndSet(next, null);
+            dirty.set(true);
+        }
+        return getRemaining(date);
+    }
+
+    // 다음 날 재고 준비, 해당 날짜가 되기 전까지는 조회되지 않는다.
+    public void prepare(LocalDate date, int remaining) {
+        prepared.set(new Stock(date, remaining));
+    }
+
+    // 남은 쿠폰 수 설정(발급, 관리자 변경, DB 동기화)
+    public void set(LocalDate date, int remaining) {
+        Stock next = new Stock(date, remaining);
+        Stock previous = stock.getAndSet(next);
+        if (!next.equals(previous)) {
+            dirty.set(true);
+        }
+    }
+
+    // 쿠폰 획득 반영, 남은 수를 DB 에서 다시 읽지 않고 1 줄인다(커밋 순서와 상관없이 같은 결과).
+    // 다른 서버에서 획득한 수는 주기적인 DB 동기화에서 반영된다.
+    public void decrease(LocalDate date) {
+        Stock previous = stock.getAndUpdate(current ->
+                current == null || !current.date().equals(date) || current.remaining() == 0
+                        ? current : new Stock(date, current.remaining() - 1));
+        if (previous != null && previous.date().equals(date) && previous.remaining() > 0) {
+            dirty.set(true);
+        }
+    }
+
+    public void prepareAfterCommit(LocalDate date, int remaining) {
+        AfterCommit.run(() -> prepare(date, remaining));
+    }
+
+    public void setAfterCommit(LocalDate date, int remaining) {
+        AfterCommit.run(() -> set(date, remaining));
+    }
+
+    public void decreaseAfterCommit(LocalDate date) {
+        AfterCommit.run(() -> decrease(date));
+    }
+
+    // 바뀐 값이 있으면 구독자에게 전송(250ms 동안의 변경은 한 번으로 합친다)
+    @Scheduled(fixedRate = 250)
+    public void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Stock current = stock.get();
+        if (current != null) {
+            webSocketPublisher.publishLocal(WebSocketTopic.COUPON, "stock",
+                    Map.of("date", current.date().toString(), "remaining", current.remaining()));
+        }
+    }
+
+    // DB 값으로 동기화
+    @Scheduled(fixedDelay = 5000)
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        set(today, (int) couponStockShardRepository.sumRemaining(today));
+    }
+
+    // 자정 직전에 다음 날 쿠폰을 미리 읽어 둔다(모든 서버에서 실행)
+    @Scheduled(cron = "30 59 23 * * *", zone = "Asia/Seoul")
+    public void prewarm() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        if (!couponRepository.existsByCouponDate(tomorrow)) {
+            log.warn("다음 날 쿠폰이 아직 발행되지 않았습니다. 발행일 : {}", tomorrow);
+            return;
+        }
+        prepare(tomorrow, (int) couponStockShardRepository.sumRemaining(tomorrow));
+    }
+
+    private record Stock(LocalDate date, int remaining) {
+    }
+}
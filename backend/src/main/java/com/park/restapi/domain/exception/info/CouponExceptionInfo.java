@@ -7,7 +7,12 @@ import org.springframework.http.HttpStatus;
 public enum CouponExceptionInfo {
 
     FAIL_COUPON_DATA(HttpStatus.INTERNAL_SERVER_ERROR, "C-001", "쿠폰 에러 발생(서버)"),
-    NOT_EXIST_COUPON(HttpStatus.NOT_FOUND, "C-002", "쿠폰이 전부 소진되었습니다.");
+    NOT_EXIST_COUPON(HttpStatus.NOT_FOUND, "C-002", "쿠폰이 전부 소진되었습니다."),
+    NOT_RUNNING_CAMPAIGN(HttpStatus.NOT_FOUND, "C-003", "진행 중인 쿠폰 이벤트가 아닙니다."),
+    CAMPAIGN_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "C-004", "이 쿠폰 이벤트에서 받을 수 있는 쿠폰을 모두 받으셨습니다."),
+    INVALID_CAMPAIGN_PERIOD(HttpStatus.BAD_REQUEST, "C-005", "쿠폰 이벤트 종료 시각은 시작 시각 이후여야 합니다."),
+    CLAIM_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "C-006", "쿠폰 획득 대기 인원이 많습니다. 잠시 후 다시 시도해주세요."),
+    NOT_FOUND_CLAIM(HttpStatus.NOT_FOUND, "C-007", "쿠폰 획득 요청 내역이 없습니다.");
 
     private HttpStatus status;
     private String code;
@@ -9,7 +9,9 @@ public enum EmailExceptionInfo {
     FAIL_SEND_CERTIFICATION_CODE(HttpStatus.BAD_REQUEST, "E-001", "인증번호 전송에 실패하였습니다."),
     NO_MATCH_CERTIFICATION_CODE(HttpStatus.BAD_REQUEST, "E-002", "인증번호가 일치하지 않습니다"),
     ALREADY_EXPIRED_CERTIFICATION_CODE(HttpStatus.NOT_FOUND, "E-003", "인증번호가 만료되었습니다."),
-    ALREADY_SIGN_UP_EMAIL(HttpStatus.BAD_REQUEST, "E-004", "이미 가입된 이메일입니다.");
+    ALREADY_SIGN_UP_EMAIL(HttpStatus.BAD_REQUEST, "E-004", "이미 가입된 이메일입니다."),
+    TOO_MANY_CERTIFICATION_REQUEST(HttpStatus.TOO_MANY_REQUESTS, "E-005", "인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_CERTIFICATION_ATTEMPT(HttpStatus.TOO_MANY_REQUESTS, "E-006", "인증번호 확인 횟수를 초과했습니다. 인증번호를 다시 요청해주세요.");
 
     private HttpStatus status;
     private String code;
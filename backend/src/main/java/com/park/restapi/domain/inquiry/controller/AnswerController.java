@@ -1,9 +1,7 @@
 package com.park.restapi.domain.inquiry.controller;
 
 import com.park.restapi.domain.inquiry.dto.request.AnswerRequestDTO;
-import com.park.restapi.domain.inquiry.entity.Inquiry;
 import com.park.restapi.domain.inquiry.service.AnswerService;
-import com.park.restapi.domain.member.service.EmailService;
 import com.park.restapi.util.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,16 +17,11 @@ import org.springframework.web.bind.annotation.*;
 public class AnswerController {
 
     private final AnswerService answerService;
-    private final EmailService emailService;
 
     // 답변 등록
     @PostMapping("answers")
-    public ResponseEntity<ApiResponse<Void>> createAnswer(@RequestBody @Valid AnswerRequestDTO answerRequestDTO) throws
-            Exception {
-        Inquiry inquiry = answerService.createAnswer(answerRequestDTO);
-        if (inquiry.isEmailSendCheck()) {
-            emailService.sendAnsweredMessage(inquiry.getMember().getEmail(), inquiry.getTitle());
-        }
+    public ResponseEntity<ApiResponse<Void>> createAnswer(@RequestBody @Valid AnswerRequestDTO answerRequestDTO) {
+        answerService.createAnswer(answerRequestDTO);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.createSuccessNoContent("문의 답변 등록이 완료되었습니다."));
     }
@@ -6,6 +6,7 @@ import com.park.restapi.domain.member.entity.Member;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -24,6 +25,7 @@ public class InquiryCustomRepositoryImpl implements InquiryCustomRepository {
 
     // 모든 문의 내역 탐색
     @Override
+    @Timed(value = "repository.query", histogram = true)
     public Page<InquiryResponseDTO> findByInquires(Member member, Pageable pageable, boolean isAdmin) {
 
         List<InquiryResponseDTO> inquiries = queryFactory
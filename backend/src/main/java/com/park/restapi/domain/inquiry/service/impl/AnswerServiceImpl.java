@@ -14,12 +14,17 @@ import com.park.restapi.domain.inquiry.repository.InquiryRepository;
 import com.park.restapi.domain.inquiry.service.AnswerService;
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.repository.MemberRepository;
+import com.park.restapi.domain.member.service.EmailService;
 import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -28,7 +33,9 @@ public class AnswerServiceImpl implements AnswerService {
     private final MemberRepository memberRepository;
     private final AnswerRepository answerRepository;
     private final InquiryRepository inquiryRepository;
+    private final EmailService emailService;
     private final JwtService jwtService;
+    private final WebSocketPublisher webSocketPublisher;
 
     // 문의내역 답변 등록하기
     @Override
@@ -49,6 +56,15 @@ public class AnswerServiceImpl implements AnswerService {
         answerRepository.save(answer);
         inquiry.registerAnswer(answer);
 
+        // 답변 알림 메일은 답변과 같은 트랜잭션으로 아웃박스에 저장
+        if (inquiry.isEmailSendCheck()) {
+            emailService.sendAnsweredMessage(inquiry.getMember().getEmail(), inquiry.getTitle());
+        }
+
+        // 접속 중인 문의 작성자에게 답변 알림
+        webSocketPublisher.publishAfterCommit(WebSocketTopic.user(inquiry.getMember().getId()), "answer",
+                Map.of("inquiryId", inquiry.getId(), "title", inquiry.getTitle()));
+
         return inquiry;
     }
 
@@ -32,7 +32,7 @@ public class EmailController {
     // 인증번호 일치 확인
     @PostMapping("authentications/verify")
     public ResponseEntity<ApiResponse<Void>> verifyCertificationNumber(@Valid @RequestBody CertificationCodeRequestDTO dto) {
-        emailService.checkCertificationCode(dto.certificationCode());
+        emailService.checkCertificationCode(dto.email(), dto.certificationCode());
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.createSuccessNoContent("이메일 인증이 완료되었습니다."));
     }
@@ -0,0 +1,84 @@
+package com.park.restapi.domain.member.entity;
+
+import com.park.restapi.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 메일 발송 대기열(아웃박스) 엔티티
+@Entity
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_date")
+})
+public class EmailOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptDate;
+
+    @Column(nullable = true, length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = true)
+    private LocalDateTime sentDate;
+
+    @Builder
+    public EmailOutbox(String recipient, String subject, String content) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptDate = LocalDateTime.now();
+    }
+
+    // 발송 선점(리스 시간이 지나면 다시 발송 대상이 됨)
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.nextAttemptDate = leaseUntil;
+    }
+
+    // 발송 실패 기록, 최대 횟수 전까지는 지수 백오프로 재시도 예약
+    public void markFailed(String error, int maxAttempts, Duration baseBackoff) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            return;
+        }
+
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptDate = LocalDateTime.now().plus(baseBackoff.multipliedBy(1L << (this.attemptCount - 1)));
+    }
+}
@@ -0,0 +1,5 @@
+package com.park.restapi.domain.member.entity;
+
+public enum EmailOutboxStatus {
+    PENDING, SENDING, SENT, FAILED;
+}
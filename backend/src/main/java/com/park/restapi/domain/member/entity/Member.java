@@ -1,13 +1,16 @@
 package com.park.restapi.domain.member.entity;
 
 import com.park.restapi.domain.api.entity.ApiRequestHistory;
+import com.park.restapi.domain.coupon.entity.CouponCampaignHistory;
 import com.park.restapi.domain.coupon.entity.CouponHistory;
 import com.park.restapi.domain.refreshtoken.entity.RefreshToken;
 import com.park.restapi.util.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,9 +20,11 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(callSuper = true)
+// 누적 토큰 수는 조건 없는 update 로만 올린다. 변경 감지가 바뀐 컬럼만 쓰도록 해서 덮어쓰지 않게 한다.
+@DynamicUpdate
 public class Member extends BaseTimeEntity {
 
-    private static final Integer DEFAULT_TOKEN = 10;
+    public static final Integer DEFAULT_TOKEN = 10;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -49,6 +54,18 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer token = DEFAULT_TOKEN;
 
+    // 마지막으로 데일리 토큰을 초기화한 날짜, 같은 날 두 번 초기화하지 않는다.
+    @Column(nullable = true)
+    private LocalDate tokenResetDate;
+
+    // 여태 사용한 토큰 수(API 요청 이력 저장 시 증가)
+    @Column(nullable = false)
+    private long totalUsedTokens;
+
+    // 여태 획득한 토큰 수(쿠폰 획득 시 증가)
+    @Column(nullable = false)
+    private long totalAcquiredTokens;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MemberRole> memberRoles = new ArrayList<>();
 
@@ -61,6 +78,9 @@ public class Member extends BaseTimeEntity {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CouponHistory> couponHistories = new ArrayList<>();
 
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<CouponCampaignHistory> campaignHistories = new ArrayList<>();
+
     @Builder
     public Member(String email, String password, String nickname, LocalDateTime loginLastDate, SocialType socialType) {
         this.email = email;
@@ -82,10 +102,6 @@ public class Member extends BaseTimeEntity {
         this.token -= 1;
     }
 
-    public void resetToken() {
-        this.token = this.token < DEFAULT_TOKEN ? DEFAULT_TOKEN : this.token;
-    }
-
     public void updateLoginDate() {
         this.loginLastDate = LocalDateTime.now();
     }
@@ -95,6 +111,11 @@ public class Member extends BaseTimeEntity {
         this.token++;
     }
 
+    // 토큰 여러 개 획득
+    public void increasedToken(int amount) {
+        this.token += amount;
+    }
+
     // 탈퇴 시간 추가
     public void updateWithdrawalDate() {
         this.withdrawalDate = LocalDateTime.now();
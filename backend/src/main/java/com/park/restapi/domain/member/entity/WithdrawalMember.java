@@ -1,5 +1,6 @@
 package com.park.restapi.domain.member.entity;
 
+import com.park.restapi.util.jpa.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
 public class WithdrawalMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "withdrawal_member_id")
+    @TableGenerator(name = "withdrawal_member_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "withdrawal_member", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
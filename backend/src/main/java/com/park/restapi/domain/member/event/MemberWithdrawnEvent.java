@@ -0,0 +1,5 @@
+package com.park.restapi.domain.member.event;
+
+// 탈퇴 처리로 유저가 삭제됨, 유저 정보를 들고 있는 캐시를 비운다.
+public record MemberWithdrawnEvent(Long memberId) {
+}
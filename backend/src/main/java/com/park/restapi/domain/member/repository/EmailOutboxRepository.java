@@ -0,0 +1,34 @@
+package com.park.restapi.domain.member.repository;
+
+import com.park.restapi.domain.member.entity.EmailOutbox;
+import com.park.restapi.domain.member.entity.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 시각이 도래한 메일 조회(대기 중이거나 리스가 만료된 발송 중 메일)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from EmailOutbox e where e.status in :statuses and e.nextAttemptDate <= :now order by e.nextAttemptDate asc")
+    List<EmailOutbox> findDispatchable(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // 발송 완료 처리
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = :status, e.sentDate = :now where e.id in :ids")
+    int updateSent(@Param("ids") Collection<Long> ids,
+                   @Param("status") EmailOutboxStatus status,
+                   @Param("now") LocalDateTime now);
+}
@@ -2,10 +2,13 @@ package com.park.restapi.domain.member.repository;
 
 import com.park.restapi.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -31,4 +34,37 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 탈퇴한지 30일 지난 유저 탐색
     @Query("select m from Member m where m.withdrawalDate is not null and  m.withdrawalDate <= :thirtyDaysAgo")
     List<Member> findByWithdrawalMember(@Param("thirtyDaysAgo") LocalDateTime thirtyDaysAgo);
+
+    // 사용한 토큰 수 증가
+    @Modifying
+    @Query("update Member m set m.totalUsedTokens = m.totalUsedTokens + :amount where m.id = :id")
+    int increaseUsedTokens(@Param("id") Long id, @Param("amount") long amount);
+
+    // 획득한 토큰 수 증가
+    @Modifying
+    @Query("update Member m set m.totalAcquiredTokens = m.totalAcquiredTokens + :amount where m.id = :id")
+    int increaseAcquiredTokens(@Param("id") Long id, @Param("amount") long amount);
+
+    // 데일리 토큰 초기화(ID 구간 단위), 이미 오늘 초기화한 유저는 건너뛰어서 다시 실행해도 결과가 같다.
+    @Transactional
+    @Modifying
+    @Query("update Member m set " +
+            "m.token = case when m.token < :defaultToken then :defaultToken else m.token end, " +
+            "m.tokenResetDate = :today " +
+            "where m.id >= :fromId and m.id < :toId and (m.tokenResetDate is null or m.tokenResetDate < :today)")
+    int resetTokens(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                    @Param("today") LocalDate today, @Param("defaultToken") Integer defaultToken);
+
+    @Query("select max(m.id) from Member m")
+    Optional<Long> findMaxId();
+
+    // 누적 토큰 수를 사용 집계, 쿠폰 획득 이력으로 다시 계산(ID 구간 단위)
+    @Transactional
+    @Modifying
+    @Query("update Member m set " +
+            "m.totalUsedTokens = coalesce((select r.successCount from ApiUsageRollup r where r.memberId = m.id), 0), " +
+            "m.totalAcquiredTokens = (select count(h) from CouponHistory h where h.member.id = m.id) " +
+            "+ coalesce((select sum(c.tokenAmount) from CouponCampaignHistory c where c.member.id = m.id), 0) " +
+            "where m.id >= :fromId and m.id < :toId")
+    int reconcileTokenTotals(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,135 @@
+package com.park.restapi.domain.member.scheduler;
+
+import com.park.restapi.domain.member.entity.EmailOutbox;
+import com.park.restapi.domain.member.service.EmailOutboxService;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// 아웃박스에 쌓인 메일을 묶음 단위로 발송하는 스케줄러
+@Service
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    // 동시에 열어둘 SMTP 연결 수
+    private static final int CONCURRENCY = 4;
+    // SMTP 연결 하나로 보낼 메일 수
+    private static final int CHUNK_SIZE = 20;
+    private static final String SENDER_ADDRESS = "qkrrlgus9797@gmail.com";
+    private static final String SENDER_NAME = "RESTFUL API 생성 서비스";
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender emailSender;
+    private final Executor emailExecutor;
+    private final Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService, JavaMailSender emailSender,
+                                 @Qualifier("emailExecutor") Executor emailExecutor) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailSender = emailSender;
+        this.emailExecutor = emailExecutor;
+    }
+
+    // 1초마다 비어있는 연결 수만큼 메일을 선점해서 발송
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        int permits = inFlight.availablePermits();
+        if (permits == 0) {
+            return;
+        }
+
+        List<EmailOutbox> outboxes = emailOutboxService.claimBatch(permits * CHUNK_SIZE);
+        for (int from = 0; from < outboxes.size(); from += CHUNK_SIZE) {
+            List<EmailOutbox> chunk = outboxes.subList(from, Math.min(from + CHUNK_SIZE, outboxes.size()));
+
+            inFlight.acquireUninterruptibly();
+            try {
+                emailExecutor.execute(() -> {
+                    try {
+                        sendChunk(chunk);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 선점한 메일은 임대 시간이 끝나면 다시 발송 대상이 된다.
+                inFlight.release();
+                log.warn("메일 발송 스레드풀 가득 참, 임대 만료 후 재시도 - 개수 : {}", chunk.size());
+            }
+        }
+    }
+
+    // 한 번의 send 호출로 묶어서 보내면 SMTP 연결 하나를 재사용한다.
+    void sendChunk(List<EmailOutbox> chunk) {
+        Map<MimeMessage, Long> messages = new IdentityHashMap<>();
+        for (EmailOutbox outbox : chunk) {
+            try {
+                messages.put(createMessage(outbox), outbox.getId());
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                emailOutboxService.markFailed(outbox.getId(), e.getMessage());
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Set<Long> sentIds = new HashSet<>(messages.values());
+        try {
+            emailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                failAll(sentIds, e);
+            } else {
+                e.getFailedMessages().forEach((failedMessage, exception) -> {
+                    Long id = messages.get(failedMessage);
+                    if (id != null && sentIds.remove(id)) {
+                        emailOutboxService.markFailed(id, exception.getMessage());
+                    }
+                });
+            }
+        } catch (MailException e) {
+            failAll(sentIds, e);
+        }
+
+        emailOutboxService.markSent(sentIds);
+    }
+
+    // 연결 실패 등으로 묶음 전체가 실패한 경우
+    private void failAll(Set<Long> ids, MailException e) {
+        log.warn("메일 묶음 발송 실패 - 대상 개수 : {}, 오류 메시지 : {}", ids.size(), e.getMessage());
+        for (Long id : ids) {
+            emailOutboxService.markFailed(id, e.getMessage());
+        }
+        ids.clear();
+    }
+
+    private MimeMessage createMessage(EmailOutbox outbox) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = emailSender.createMimeMessage();
+
+        message.addRecipients(Message.RecipientType.TO, outbox.getRecipient()); // 보내는 대상
+        message.setSubject(outbox.getSubject()); // 제목
+        message.setText(outbox.getContent(), "utf-8", "html"); // 내용
+        message.setFrom(new InternetAddress(SENDER_ADDRESS, SENDER_NAME)); // 보내는 사람
+
+        return message;
+    }
+}
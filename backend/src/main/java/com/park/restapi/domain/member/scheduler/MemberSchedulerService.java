@@ -1,34 +1,65 @@
 package com.park.restapi.domain.member.scheduler;
 
+import com.park.restapi.domain.api.service.ApiUsageService;
 import com.park.restapi.domain.member.service.MemberService;
-import jakarta.transaction.Transactional;
+import com.park.restapi.domain.scheduler.service.ExclusiveJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MemberSchedulerService {
 
+    private static final String RESET_TOKEN_JOB = "member-reset-token";
+    private static final String WITHDRAWAL_MEMBER_JOB = "member-withdrawal";
+    private static final String RECONCILE_TOKEN_TOTALS_JOB = "member-reconcile-token-totals";
+
     private final MemberService memberService;
+    private final ApiUsageService apiUsageService;
+    private final ExclusiveJobRunner exclusiveJobRunner;
 
     // 매일 12시에 토큰 리셋
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void resetToken() {
-        log.info("오전 12시 토큰 리셋 스케줄러 동작");
+        exclusiveJobRunner.run(RESET_TOKEN_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), () -> {
+            log.info("오전 12시 토큰 리셋 스케줄러 동작");
 
-        memberService.resetAllTokens();
+            memberService.resetAllTokens(LocalDate.now());
+        });
     }
 
     // 매일 오전 3시에 탈퇴 유저 30일 지났는지 판단
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void withdrawalMember() {
-        log.info("오전 3시 유저 탈퇴 스케줄러 동작");
+        exclusiveJobRunner.run(WITHDRAWAL_MEMBER_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), () -> {
+            log.info("오전 3시 유저 탈퇴 스케줄러 동작");
+
+            memberService.withdrawalMember();
+        });
+    }
+
+    // 매일 오전 5시, 그리고 시작 시 유저 누적 토큰 수를 사용 집계로 다시 계산
+    // 집계가 없는 유저는 0 으로 계산되므로, 같은 작업 안에서 집계를 먼저 만들고 실패하면 재계산하지 않는다.
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileTokenTotals() {
+        try {
+            exclusiveJobRunner.run(RECONCILE_TOKEN_TOTALS_JOB, Duration.ofMinutes(30), Duration.ofMinutes(1), () -> {
+                log.info("유저 누적 토큰 수 재계산 스케줄러 동작");
 
-        memberService.withdrawalMember();
+                apiUsageService.backfillRollups();
+                memberService.reconcileTokenTotals();
+            });
+        } catch (Exception e) {
+            log.error("유저 누적 토큰 수 재계산 중 예외 발생", e);
+        }
     }
 }
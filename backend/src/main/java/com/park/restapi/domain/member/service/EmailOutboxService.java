@@ -0,0 +1,21 @@
+package com.park.restapi.domain.member.service;
+
+import com.park.restapi.domain.member.entity.EmailOutbox;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxService {
+
+    // 메일 발송 대기열 등록(호출한 트랜잭션에 참여)
+    void enqueue(String recipient, String subject, String content);
+
+    // 발송할 메일 선점
+    List<EmailOutbox> claimBatch(int batchSize);
+
+    // 발송 성공 처리
+    void markSent(Collection<Long> ids);
+
+    // 발송 실패 처리(재시도 예약)
+    void markFailed(Long id, String error);
+}
@@ -2,10 +2,10 @@ package com.park.restapi.domain.member.service;
 
 public interface EmailService {
 
-    boolean sendSimpleMessageRegist(String email) throws Exception;
+    boolean sendSimpleMessageRegist(String email);
 
     // 인증번호 확인 및 인증
-    void checkCertificationCode(String code);
+    void checkCertificationCode(String email, String code);
 
-    void sendAnsweredMessage(String email, String title) throws Exception;
+    void sendAnsweredMessage(String email, String title);
 }
@@ -8,6 +8,7 @@ import com.park.restapi.domain.member.dto.response.MyInfoResponseDTO;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.time.LocalDate;
 
 public interface MemberService {
     // 회원가입
@@ -44,8 +45,11 @@ public interface MemberService {
     MyInfoResponseDTO getMemberInfo();
 
     // 유저 데일리 토큰 초기화(스케줄러)
-    void resetAllTokens();
+    void resetAllTokens(LocalDate today);
 
     // 유저 탈퇴 판단(스케줄러)
     void withdrawalMember();
+
+    // 유저 누적 토큰 수 재계산(스케줄러)
+    void reconcileTokenTotals();
 }
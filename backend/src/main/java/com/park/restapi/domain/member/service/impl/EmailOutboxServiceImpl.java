@@ -0,0 +1,79 @@
+package com.park.restapi.domain.member.service.impl;
+
+import com.park.restapi.domain.member.entity.EmailOutbox;
+import com.park.restapi.domain.member.entity.EmailOutboxStatus;
+import com.park.restapi.domain.member.repository.EmailOutboxRepository;
+import com.park.restapi.domain.member.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration SENDING_LEASE = Duration.ofMinutes(2);
+    private static final List<EmailOutboxStatus> DISPATCHABLE_STATUSES =
+            List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    // 메일 발송 대기열 등록
+    @Override
+    @Transactional
+    public void enqueue(String recipient, String subject, String content) {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content).build();
+        emailOutboxRepository.save(outbox);
+    }
+
+    // 발송할 메일 선점, 리스 시간 안에 결과가 기록되지 않으면 다시 발송 대상이 된다.
+    @Override
+    @Transactional
+    public List<EmailOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> outboxes = emailOutboxRepository.findDispatchable(DISPATCHABLE_STATUSES, now,
+                PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(SENDING_LEASE);
+        for (EmailOutbox outbox : outboxes) {
+            outbox.markSending(leaseUntil);
+        }
+
+        return outboxes;
+    }
+
+    // 발송 성공 처리
+    @Override
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        emailOutboxRepository.updateSent(ids, EmailOutboxStatus.SENT, LocalDateTime.now());
+    }
+
+    // 발송 실패 처리
+    @Override
+    @Transactional
+    public void markFailed(Long id, String error) {
+        emailOutboxRepository.findById(id).ifPresent(outbox -> {
+            outbox.markFailed(error, MAX_ATTEMPTS, BASE_BACKOFF);
+            if (outbox.getStatus() == EmailOutboxStatus.FAILED) {
+                log.error("메일 발송 최종 실패 - 아웃박스 ID : {}, 대상 이메일 : {}, 오류 : {}", id, outbox.getRecipient(), error);
+            }
+        });
+    }
+}
@@ -1,7 +1,5 @@
 package com.park.restapi.domain.member.service.impl;
 
-import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
-import com.park.restapi.domain.coupon.repository.CouponHistoryRepository;
 import com.park.restapi.domain.exception.exception.MemberException;
 import com.park.restapi.domain.exception.info.MemberExceptionInfo;
 import com.park.restapi.domain.member.dto.request.DeactivateRequestDTO;
@@ -10,6 +8,7 @@ import com.park.restapi.domain.member.dto.request.SignUpRequestDTO;
 import com.park.restapi.domain.member.dto.response.MemberInfoResponseDTO;
 import com.park.restapi.domain.member.dto.response.MyInfoResponseDTO;
 import com.park.restapi.domain.member.entity.*;
+import com.park.restapi.domain.member.event.MemberWithdrawnEvent;
 import com.park.restapi.domain.member.repository.MemberRepository;
 import com.park.restapi.domain.member.repository.MemberRoleRepository;
 import com.park.restapi.domain.member.repository.WithdrawalMemberRepository;
@@ -19,11 +18,13 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,13 +33,15 @@ import java.util.List;
 @Slf4j
 public class MemberServiceImpl implements MemberService {
 
+    // 토큰 초기화, 누적 토큰 수 재계산 시 한 번에 갱신하는 유저 ID 범위
+    private static final int MEMBER_CHUNK = 1000;
+
     private final MemberRepository memberRepository;
     private final MemberRoleRepository memberRoleRepository;
-    private final ApiRequestHistoryRepository apiRequestHistoryRepository;
-    private final CouponHistoryRepository couponHistoryRepository;
     private final WithdrawalMemberRepository withdrawalMemberRepository;
     private final JwtService jwtService;
     private final BCryptPasswordEncoder encoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입
     @Override
@@ -195,23 +198,19 @@ public class MemberServiceImpl implements MemberService {
     public MyInfoResponseDTO getMemberInfo() {
         Member currentMember = getCurrentMember();
 
-        // 유저가 여태 사용했던 토큰 개수
-        int totalUseToken = apiRequestHistoryRepository.findByTotalUseToken(currentMember);
-
-        // 유저가 여태 획득했던 토큰 개수
-        int totalAcquisitionToken = couponHistoryRepository.findByMemberTotalAcquisitionToken(currentMember);
-
-        return MyInfoResponseDTO.toDTO(totalUseToken, totalAcquisitionToken);
+        // 유저가 여태 사용했던, 획득했던 토큰 개수(이력 저장 시 함께 올려 둔 값)
+        return MyInfoResponseDTO.toDTO((int) currentMember.getTotalUsedTokens(), (int) currentMember.getTotalAcquiredTokens());
     }
 
-    // 유저 데일리 토큰 초기화(스케줄러)
+    // 유저 데일리 토큰 초기화(스케줄러), 행 잠금이 길어지지 않게 ID 구간마다 따로 커밋한다.
     @Override
-    @Transactional
-    public void resetAllTokens() {
-        List<Member> all = memberRepository.findAll();
-        for (Member u : all) {
-            u.resetToken();
+    public void resetAllTokens(LocalDate today) {
+        long maxId = memberRepository.findMaxId().orElse(0L);
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += MEMBER_CHUNK) {
+            updated += memberRepository.resetTokens(fromId, fromId + MEMBER_CHUNK, today, Member.DEFAULT_TOKEN);
         }
+        log.info("유저 데일리 토큰 초기화 - 날짜 : {}, 유저 수 : {}", today, updated);
     }
 
     // 유저 탈퇴 판단(스케줄러)
@@ -224,7 +223,19 @@ public class MemberServiceImpl implements MemberService {
         for (Member m : byWithdrawalMember) {
             memberRepository.delete(m);
             withdrawalMemberRepository.save(WithdrawalMember.builder().email(m.getEmail()).build());
+            eventPublisher.publishEvent(new MemberWithdrawnEvent(m.getId()));
+        }
+    }
+
+    // 유저 누적 토큰 수 재계산(스케줄러), 행 잠금이 길어지지 않게 ID 구간마다 따로 커밋한다.
+    @Override
+    public void reconcileTokenTotals() {
+        long maxId = memberRepository.findMaxId().orElse(0L);
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += MEMBER_CHUNK) {
+            updated += memberRepository.reconcileTokenTotals(fromId, fromId + MEMBER_CHUNK);
         }
+        log.info("유저 누적 토큰 수 재계산 - 유저 수 : {}", updated);
     }
 
     // 쿠키 저장
@@ -0,0 +1,6 @@
+package com.park.restapi.domain.member.store;
+
+// 인증번호 확인 결과
+public enum VerificationCodeStatus {
+    VERIFIED, NOT_FOUND, EXPIRED, TOO_MANY_ATTEMPTS
+}
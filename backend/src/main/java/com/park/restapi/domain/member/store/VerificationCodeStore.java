@@ -0,0 +1,144 @@
+package com.park.restapi.domain.member.store;
+
+import com.park.restapi.domain.exception.exception.EmailException;
+import com.park.restapi.domain.exception.info.EmailExceptionInfo;
+import com.park.restapi.util.timer.TimingWheel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회원가입 인증번호 저장소.
+ * 인증번호는 이메일당 하나만 메모리에 보관하고 타이밍 휠로 만료된 항목을 정리한다.
+ * 발급과 확인은 이메일 단위로 원자적으로 처리되고, 인증된 번호는 바로 폐기되므로 한 번만 인증된다.
+ * 서버별 메모리에 있으므로 여러 대로 운영할 때는 로드밸런서의 세션 고정(sticky session)으로
+ * 발급과 확인 요청이 같은 서버로 가게 한다.
+ */
+@Component
+public class VerificationCodeStore {
+
+    // 인증번호 유효 시간
+    static final Duration CODE_TTL = Duration.ofMinutes(3);
+    // 이메일당 발송 제한
+    static final Duration SEND_WINDOW = Duration.ofMinutes(10);
+    static final int MAX_SENDS_PER_WINDOW = 5;
+    // 인증번호 하나당 확인 시도 제한
+    static final int MAX_VERIFY_ATTEMPTS = 5;
+    // 메모리 상한(이메일 수), 항목은 발송 제한 시간이 지나면 정리된다.
+    static final int MAX_TRACKED_EMAILS = 100_000;
+
+    private static final long TICK_MILLIS = 1000;
+    // 가장 긴 만료 시간(10분)을 한 바퀴 안에 담을 수 있는 크기
+    private static final int WHEEL_SIZE = 1024;
+
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimingWheel<String> wheel;
+
+    public VerificationCodeStore() {
+        this(Clock.systemDefaultZone());
+    }
+
+    VerificationCodeStore(Clock clock) {
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+    }
+
+    // 인증번호 발급, 이전 번호는 폐기된다. 이메일당 발송 횟수나 저장 개수를 넘으면 예외
+    public String issue(String email, Supplier<String> codeGenerator) {
+        long now = clock.millis();
+        if (!entries.containsKey(email) && entries.size() >= MAX_TRACKED_EMAILS) {
+            throw new EmailException(EmailExceptionInfo.TOO_MANY_CERTIFICATION_REQUEST,
+                    "인증번호 저장 개수 초과 - 현재 개수 : " + entries.size());
+        }
+
+        String code = codeGenerator.get();
+        Entry entry = entries.compute(email, (key, current) -> Entry.issue(current, code, now));
+        wheel.schedule(email, entry.evictAt());
+
+        if (entry.sendCount() > MAX_SENDS_PER_WINDOW) {
+            throw new EmailException(EmailExceptionInfo.TOO_MANY_CERTIFICATION_REQUEST,
+                    email + " 인증번호 요청 횟수 초과");
+        }
+        return code;
+    }
+
+    // 인증번호 확인, 인증되거나 만료되거나 시도 횟수를 넘긴 번호는 폐기한다.
+    public VerificationCodeStatus verify(String email, String code) {
+        long now = clock.millis();
+        VerificationCodeStatus[] status = {VerificationCodeStatus.NOT_FOUND};
+
+        entries.computeIfPresent(email, (key, current) -> {
+            if (current.code() == null) {
+                return current;
+            }
+            if (current.codeExpiresAt() <= now) {
+                status[0] = VerificationCodeStatus.EXPIRED;
+                return current.discard();
+            }
+            if (!current.code().equals(code)) {
+                int attempts = current.attempts() + 1;
+                if (attempts >= MAX_VERIFY_ATTEMPTS) {
+                    status[0] = VerificationCodeStatus.TOO_MANY_ATTEMPTS;
+                    return current.discard();
+                }
+                return current.withAttempts(attempts);
+            }
+
+            status[0] = VerificationCodeStatus.VERIFIED;
+            return current.discard();
+        });
+        return status[0];
+    }
+
+    // 1초마다 인증번호와 발송 제한이 모두 끝난 항목 정리
+    @Scheduled(fixedRate = 1000)
+    public void evictExpired() {
+        long now = clock.millis();
+        wheel.advance(now, email -> evict(email, now));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(String email, long now) {
+        Entry entry = entries.computeIfPresent(email, (key, current) -> current.evictAt() <= now ? null : current);
+        if (entry != null) {
+            wheel.schedule(email, entry.evictAt());
+        }
+    }
+
+    // 이메일별 인증번호와 발송 제한 기록, 맵의 compute 안에서만 바꾼다.
+    private record Entry(String code, long codeExpiresAt, int attempts, long windowEndsAt, int sendCount) {
+
+        // 발송 제한을 넘은 요청은 횟수만 올리고 기존 번호를 유지한다.
+        private static Entry issue(Entry current, String code, long now) {
+            if (current == null || current.windowEndsAt <= now) {
+                return new Entry(code, now + CODE_TTL.toMillis(), 0, now + SEND_WINDOW.toMillis(), 1);
+            }
+            if (current.sendCount >= MAX_SENDS_PER_WINDOW) {
+                return new Entry(current.code, current.codeExpiresAt, current.attempts, current.windowEndsAt,
+                        MAX_SENDS_PER_WINDOW + 1);
+            }
+            return new Entry(code, now + CODE_TTL.toMillis(), 0, current.windowEndsAt, current.sendCount + 1);
+        }
+
+        private Entry withAttempts(int attempts) {
+            return new Entry(code, codeExpiresAt, attempts, windowEndsAt, sendCount);
+        }
+
+        private Entry discard() {
+            return new Entry(null, 0, 0, windowEndsAt, sendCount);
+        }
+
+        private long evictAt() {
+            return code == null ? windowEndsAt : Math.max(windowEndsAt, codeExpiresAt);
+        }
+    }
+}
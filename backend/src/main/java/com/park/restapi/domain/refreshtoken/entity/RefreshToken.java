@@ -2,6 +2,7 @@ package com.park.restapi.domain.refreshtoken.entity;
 
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.util.BaseTimeEntity;
+import com.park.restapi.util.jpa.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,7 +19,9 @@ import java.time.LocalDateTime;
 public class RefreshToken extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id")
+    @TableGenerator(name = "refresh_token_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "refresh_token", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,7 @@ package com.park.restapi.domain.refreshtoken.repository.impl;
 import com.park.restapi.domain.refreshtoken.entity.RefreshToken;
 import com.park.restapi.domain.refreshtoken.repository.RefreshTokenCustomRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +19,7 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenCustomRepository
     private final JPAQueryFactory queryFactory;
 
     @Override
+    @Timed(value = "repository.query", histogram = true)
     public RefreshToken validatedRefreshToken(String accessTokenValue, String refreshTokenValue,
                                               LocalDateTime currentDate) {
 
@@ -0,0 +1,41 @@
+package com.park.restapi.domain.scheduler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스케줄러 작업별 실행 잠금(여러 서버 중 한 곳만 실행)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // 이 시각까지 다른 서버는 실행할 수 없다.
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    // 잠금을 얻을 때마다 1씩 증가, 잠금이 만료된 뒤 늦게 끝난 작업이 다른 서버의 잠금을 해제하지 않게 하는 데 사용
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    @Builder
+    public SchedulerLock(String name, LocalDateTime lockedUntil, String lockedBy, Long fencingToken) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.lockedBy = lockedBy;
+        this.fencingToken = fencingToken;
+    }
+}
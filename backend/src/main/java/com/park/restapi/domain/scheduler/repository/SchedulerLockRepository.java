@@ -0,0 +1,28 @@
+package com.park.restapi.domain.scheduler.repository;
+
+import com.park.restapi.domain.scheduler.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금이 만료됐으면 획득(조건부 update 라서 동시에 시도해도 한 서버만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy, " +
+            "l.fencingToken = l.fencingToken + 1 where l.name = :name and l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 잠금 해제, 다른 서버가 이미 새로 획득했다면 아무것도 바꾸지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil " +
+            "where l.name = :name and l.lockedBy = :lockedBy and l.fencingToken = :fencingToken")
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy,
+                @Param("fencingToken") Long fencingToken, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -0,0 +1,43 @@
+package com.park.restapi.domain.scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 여러 서버에서 같은 시각에 실행되는 스케줄러 작업을 한 서버에서만 실행한다.
+ * lockAtMost : 작업 중 서버가 죽어도 이 시간이 지나면 다른 서버가 실행할 수 있다.
+ * lockAtLeast : 작업이 빨리 끝나도 이 시간 동안은 잠금을 유지해서 시계가 조금 늦은 서버가 다시 실행하지 않게 한다.
+ * 잠금이 만료된 뒤 늦게 끝난 작업의 쓰기를 막지는 않으므로, 작업은 두 번 실행돼도 결과가 같게 만들어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExclusiveJobRunner {
+
+    private final SchedulerLockService schedulerLockService;
+
+    // 잠금을 얻은 경우에만 실행
+    public boolean run(String name, Duration lockAtMost, Duration lockAtLeast, Runnable job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Optional<Long> fencingToken = schedulerLockService.acquire(name, lockAtMost);
+        if (fencingToken.isEmpty()) {
+            log.info("다른 서버에서 실행 중이거나 이미 실행한 작업입니다. 작업 : {}", name);
+            return false;
+        }
+
+        long token = fencingToken.get();
+        try {
+            job.run();
+            return true;
+        } finally {
+            LocalDateTime keepUntil = startedAt.plus(lockAtLeast);
+            LocalDateTime now = LocalDateTime.now();
+            schedulerLockService.release(name, token, keepUntil.isAfter(now) ? keepUntil : now);
+        }
+    }
+}
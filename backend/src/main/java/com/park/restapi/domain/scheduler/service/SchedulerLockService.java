@@ -0,0 +1,14 @@
+package com.park.restapi.domain.scheduler.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SchedulerLockService {
+
+    // 잠금 획득, 성공하면 펜싱 토큰 반환
+    Optional<Long> acquire(String name, Duration lockAtMost);
+
+    // 잠금 해제, keepUntil 까지는 다른 서버가 다시 실행하지 못한다.
+    void release(String name, Long fencingToken, LocalDateTime keepUntil);
+}
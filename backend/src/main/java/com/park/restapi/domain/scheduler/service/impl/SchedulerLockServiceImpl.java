@@ -0,0 +1,76 @@
+package com.park.restapi.domain.scheduler.service.impl;
+
+import com.park.restapi.domain.scheduler.entity.SchedulerLock;
+import com.park.restapi.domain.scheduler.repository.SchedulerLockRepository;
+import com.park.restapi.domain.scheduler.service.SchedulerLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    // 서버 식별자(pid@host)
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    // 잠금 행 생성 실패가 잠금 획득 트랜잭션을 롤백시키지 않도록 별도 트랜잭션에서 실행
+    private final TransactionTemplate newTransaction;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository schedulerLockRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 잠금 획득, 작업 트랜잭션과 별개로 바로 커밋해서 다른 서버가 볼 수 있게 한다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> acquire(String name, Duration lockAtMost) {
+        LocalDateTime now = LocalDateTime.now();
+        createIfAbsent(name, now);
+
+        int updated = schedulerLockRepository.acquire(name, NODE_ID, now, now.plus(lockAtMost));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        return schedulerLockRepository.findById(name).map(SchedulerLock::getFencingToken);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name, Long fencingToken, LocalDateTime keepUntil) {
+        int updated = schedulerLockRepository.release(name, NODE_ID, fencingToken, keepUntil);
+        if (updated == 0) {
+            log.warn("다른 서버가 이미 잠금을 가져갔습니다. 작업 : {}, 펜싱 토큰 : {}", name, fencingToken);
+        }
+    }
+
+    // 처음 실행되는 작업이면 잠금 행 생성, 동시에 만들면 한 곳만 성공한다.
+    private void createIfAbsent(String name, LocalDateTime now) {
+        if (schedulerLockRepository.existsById(name)) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> schedulerLockRepository.saveAndFlush(SchedulerLock.builder()
+                    .name(name)
+                    .lockedUntil(now)
+                    .fencingToken(0L).build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 서버가 먼저 잠금 행을 생성했습니다. 작업 : {}", name);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.park.restapi.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * 크기 제한이 있는 LRU 캐시.
+ * 키 해시로 나눈 구간마다 접근 순서 LinkedHashMap 을 두고 구간 단위로만 잠가서,
+ * 조회가 몰려도 잠금 하나에 모든 요청이 줄 서지 않는다. 구간마다 따로 가장 오래된 항목을 내보낸다.
+ */
+public final class SegmentedLruCache<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public SegmentedLruCache(int maxEntries, int segmentCount) {
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("구간 수는 2의 거듭제곱이어야 합니다. 구간 수 : " + segmentCount);
+        }
+        this.segments = new Segment[segmentCount];
+        this.mask = segmentCount - 1;
+
+        int segmentCapacity = Math.max(1, maxEntries / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    // 조건에 맞는 항목 제거(전체 순회라 드물게 일어나는 무효화에만 사용)
+    public void removeIf(BiPredicate<K, V> filter) {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.park.restapi.util.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 많이 쌓이는 테이블의 ID 를 IDENTITY 대신 테이블 기반 pooled 생성기로 발급한다.
+ * IDENTITY 는 insert 를 해야 ID 를 알 수 있어서 Hibernate 가 JDBC 배치를 끄지만,
+ * 미리 ALLOCATION_SIZE 개씩 받아 두면 insert 를 모아서 보낼 수 있다.
+ * 시작할 때 시퀀스 테이블이 없으면 만들고, 다음 ID 를 기존 최대 ID 뒤로 맞춰서 IDENTITY 로 발급된 ID 와 겹치지 않게 한다.
+ * 생성기 이름(@TableGenerator 의 pkColumnValue)은 ID 를 발급하는 테이블 이름과 같게 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequence implements SmartInitializingSingleton {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // ddl-auto 로 스키마를 만들지 않는 환경에서도 동작하도록 직접 만든다(Hibernate 기본 컬럼 정의와 같다).
+        jdbcTemplate.execute("create table if not exists " + TABLE + " (" + NAME_COLUMN + " varchar(255) not null, "
+                + VALUE_COLUMN + " bigint, primary key (" + NAME_COLUMN + "))");
+
+        findSequenceNames().forEach(this::alignSequence);
+    }
+
+    // 엔티티 ID 에 붙은 이 테이블의 생성기 이름
+    private Set<String> findSequenceNames() {
+        Set<String> names = new TreeSet<>();
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            for (Field field : entityType.getJavaType().getDeclaredFields()) {
+                TableGenerator generator = field.getAnnotation(TableGenerator.class);
+                if (generator != null && TABLE.equals(generator.table())) {
+                    names.add(generator.pkColumnValue());
+                }
+            }
+        }
+        return names;
+    }
+
+    // 다음 ID 를 최대 ID 뒤로 맞춘다(이미 뒤에 있으면 그대로).
+    private void alignSequence(String sequenceName) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + sequenceName, Long.class);
+        long nextValue = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE;
+
+        if (raiseSequence(sequenceName, nextValue)) {
+            return;
+        }
+
+        Integer exists = jdbcTemplate.queryForObject("select count(*) from " + TABLE + " where " + NAME_COLUMN + " = ?",
+                Integer.class, sequenceName);
+        if (exists != null && exists == 0) {
+            try {
+                jdbcTemplate.update("insert into " + TABLE + " (" + NAME_COLUMN + ", " + VALUE_COLUMN + ") values (?, ?)",
+                        sequenceName, nextValue);
+                log.info("ID 시퀀스 생성 - 이름 : {}, 다음 값 : {}", sequenceName, nextValue);
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 동시에 만들었으면 그 값을 다시 맞춘다.
+                raiseSequence(sequenceName, nextValue);
+            }
+        }
+    }
+
+    private boolean raiseSequence(String sequenceName, long nextValue) {
+        int updated = jdbcTemplate.update("update " + TABLE + " set " + VALUE_COLUMN + " = ? where " + NAME_COLUMN + " = ? and "
+                + VALUE_COLUMN + " < ?", nextValue, sequenceName, nextValue);
+        if (updated > 0) {
+            log.info("ID 시퀀스 조정 - 이름 : {}, 다음 값 : {}", sequenceName, nextValue);
+        }
+        return updated > 0;
+    }
+}
@@ -3,6 +3,7 @@ package com.park.restapi.util.jwt;
 import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.entity.MemberRole;
 import com.park.restapi.domain.member.repository.MemberRepository;
+import com.park.restapi.util.logging.MdcKeys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -40,19 +42,17 @@ public class JwtFilter extends OncePerRequestFilter {
                 || path.startsWith("/login") || path.startsWith("/api/auth/refresh-token")
                 || path.startsWith("/api/authentications/verify") || path.startsWith("/api/signup")
                 || path.startsWith("/api/login") || path.startsWith("/oauth2/authorization/kakao")
-                || path.startsWith("/ws");
+                || path.startsWith("/ws") || path.startsWith("/actuator");
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        log.info("jwt 필터 동작");
-
         Optional<String> accessTokenOptional = findAccessToken(request, "accessToken");
 
         // 비로그인 사용자를 위해 /api/post 경로에 대해 GUEST 권한 부여
         if (accessTokenOptional.isEmpty() && request.getRequestURI().startsWith("/api/post/share-api")) {
-            log.info("비로그인 사용자에게 GUEST 권한 부여");
+            log.debug("비로그인 사용자에게 GUEST 권한 부여");
             List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("GUEST"));
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(null, null, authorities);
@@ -63,7 +63,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
         // 쿠키 자체가 없으면 401 에러 발생
         if (accessTokenOptional.isEmpty()) {
-            log.error("요청 경로 : " + request.getRequestURI() + "/ 쿠키 없음.");
+            log.warn("쿠키 없음 - 요청 경로 : {}", request.getRequestURI());
             sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "쿠키가 존재하지 않습니다.");
             return;
         }
@@ -74,7 +74,7 @@ public class JwtFilter extends OncePerRequestFilter {
         // userId 토큰에서 꺼냄.
         try {
             TokenInfo tokenInfo = jwtService.getUserId(accessToken);
-            log.info("userId:{}번 유저 토큰 추출 완료", tokenInfo.getUserId());
+            MDC.put(MdcKeys.USER_ID, String.valueOf(tokenInfo.getUserId()));
 
             // 토큰이 만료됐으면 401 리턴
             if (tokenInfo.isExpired()) {
@@ -85,11 +85,10 @@ public class JwtFilter extends OncePerRequestFilter {
             if (!authenticateUser(request, response, tokenInfo.getUserId()))
                 return;
 
-            log.info("유저 인증 완료");
+            log.debug("유저 인증 완료");
             filterChain.doFilter(request, response);
         } catch (Exception e) {
-            log.error("JWT 필터 처리 중 예외 발생", e);
-            e.printStackTrace();
+            log.error("JWT 필터 처리 중 예외 발생 - 요청 경로 : {}", request.getRequestURI(), e);
         }
     }
 
@@ -117,7 +116,7 @@ public class JwtFilter extends OncePerRequestFilter {
             IOException {
         Optional<Member> byIdLogin = memberRepository.findByIdLogin(userId);
         if (byIdLogin.isEmpty()) {
-            log.info("유저 데이터 없음");
+            log.warn("유저 데이터 없음 - userId : {}", userId);
             sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "유저 데이터 없음");
             return false;
         }
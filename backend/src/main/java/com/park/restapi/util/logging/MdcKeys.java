@@ -0,0 +1,11 @@
+package com.park.restapi.util.logging;
+
+// 로그 이벤트에 함께 기록되는 MDC 키
+public final class MdcKeys {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String USER_ID = "userId";
+
+    private MdcKeys() {
+    }
+}
@@ -0,0 +1,101 @@
+package com.park.restapi.util.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시점에 한 번 파싱해 둔 메일 HTML 템플릿.
+ * 본문은 고정 문자열 조각과 {{이름}} 형태의 치환 위치로 나뉘어 있고,
+ * 치환 값은 항상 HTML 이스케이프된 뒤 스레드별로 재사용하는 버퍼에 이어 붙여진다.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    // 이보다 커진 버퍼는 재사용하지 않는다.
+    private static final int MAX_REUSED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    // literals.length == placeholders.length + 1
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private MailTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    // 템플릿 파싱
+    public static MailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 치환 위치가 있습니다. 위치 : " + open);
+            }
+
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("치환 이름이 비어있습니다. 위치 : " + open);
+            }
+
+            literals.add(source.substring(cursor, open));
+            placeholders.add(name);
+            cursor = close + CLOSE.length();
+        }
+        literals.add(source.substring(cursor));
+
+        return new MailTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    // 치환 이름 목록
+    public List<String> getPlaceholders() {
+        return List.of(placeholders);
+    }
+
+    // 템플릿 렌더링
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            buffer.append(literals[i]);
+
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 값이 없습니다. 이름 : " + placeholders[i]);
+            }
+            appendEscaped(buffer, value);
+        }
+        buffer.append(literals[placeholders.length]);
+
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_REUSED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    // HTML 이스케이프
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> buffer.append("&amp;");
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                case '"' -> buffer.append("&quot;");
+                case '\'' -> buffer.append("&#39;");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.park.restapi.util.mail;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 메일 템플릿을 시작 시점에 한 번만 읽어서 파싱해두는 컴포넌트
+@Component
+@Slf4j
+public class MailTemplateEngine {
+
+    private final Map<MailTemplateType, MailTemplate> templates = new EnumMap<>(MailTemplateType.class);
+
+    @PostConstruct
+    void compileTemplates() {
+        for (MailTemplateType type : MailTemplateType.values()) {
+            templates.put(type, MailTemplate.compile(load(type)));
+        }
+        log.info("메일 템플릿 {}개 로드 완료", templates.size());
+    }
+
+    // 템플릿 렌더링
+    public String render(MailTemplateType type, Map<String, String> values) {
+        return templates.get(type).render(values);
+    }
+
+    private String load(MailTemplateType type) {
+        try (InputStream inputStream = new ClassPathResource(type.getPath()).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿을 읽지 못했습니다. 경로 : " + type.getPath(), e);
+        }
+    }
+}
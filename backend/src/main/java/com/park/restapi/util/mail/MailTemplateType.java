@@ -0,0 +1,15 @@
+package com.park.restapi.util.mail;
+
+import lombok.Getter;
+
+@Getter
+public enum MailTemplateType {
+    ANSWER("templates/mail/answer.html"),
+    CERTIFICATION("templates/mail/certification.html");
+
+    private final String path;
+
+    MailTemplateType(String path) {
+        this.path = path;
+    }
+}
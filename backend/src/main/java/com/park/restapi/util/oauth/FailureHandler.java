@@ -23,7 +23,7 @@ public final class FailureHandler implements AuthenticationFailureHandler {
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
-        log.error("oauth 실패 핸들러 : " + exception.getMessage());
+        log.error("oauth 실패 핸들러 : {}", exception.getMessage());
 
         // url 생성
         String url = makeRedirectUrl();
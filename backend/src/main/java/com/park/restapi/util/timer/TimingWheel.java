@@ -0,0 +1,66 @@
+package com.park.restapi.util.timer;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 만료 처리를 위한 단순 해시 타이밍 휠.
+ * 항목은 마감 시각이 속한 틱의 버킷에 들어가고, advance 가 지나간 틱의 버킷을 비우면서 콜백을 호출한다.
+ * 한 바퀴보다 먼 마감 시각은 마지막 버킷에 들어가므로 콜백에서 실제 마감 시각을 다시 확인해야 한다.
+ * schedule 은 여러 스레드에서 호출해도 되지만 advance 는 한 스레드(스케줄러)에서만 호출한다.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Set<T>[] buckets;
+    private volatile long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    // 마감 시각에 항목 등록
+    // advance 가 방금 비운 버킷에 넣었으면 한 바퀴 뒤에야 처리되므로, 빼낼 수 있으면 다음 틱 기준으로 다시 넣는다.
+    public void schedule(T item, long deadlineMillis) {
+        while (true) {
+            long current = lastTick;
+            long tick = Math.max(deadlineMillis / tickMillis, current + 1);
+            tick = Math.min(tick, current + buckets.length);
+            Set<T> bucket = buckets[(int) (tick % buckets.length)];
+            bucket.add(item);
+
+            // advance 는 lastTick 을 올린 뒤 버킷을 비우므로, 아직 그 틱에 오지 않았으면 이번 바퀴에 처리된다.
+            if (lastTick < tick || !bucket.remove(item)) {
+                return;
+            }
+        }
+    }
+
+    // 현재 시각까지 지나간 틱의 항목을 꺼내서 처리
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long nowTick = nowMillis / tickMillis;
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 돌면 된다.
+        if (nowTick - lastTick > buckets.length) {
+            lastTick = nowTick - buckets.length;
+        }
+
+        while (lastTick < nowTick) {
+            long tick = lastTick + 1;
+            Iterator<T> iterator = buckets[(int) (tick % buckets.length)].iterator();
+            lastTick = tick;
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                iterator.remove();
+                expired.accept(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.park.restapi.util.websocket;
+
+import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.jwt.TokenInfo;
+import jakarta.servlet.http.Cookie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+// 웹소켓 연결 시 액세스 토큰 쿠키가 있으면 세션에 userId 저장(비로그인 연결도 허용)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    private static final String ACCESS_TOKEN_COOKIE = "accessToken";
+
+    private final JwtService jwtService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return true;
+        }
+
+        Cookie[] cookies = servletRequest.getServletRequest().getCookies();
+        if (cookies == null) {
+            return true;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (ACCESS_TOKEN_COOKIE.equals(cookie.getName())) {
+                putUserId(cookie.getValue(), attributes);
+                break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private void putUserId(String accessToken, Map<String, Object> attributes) {
+        try {
+            TokenInfo tokenInfo = jwtService.getUserId(accessToken);
+            if (!tokenInfo.isExpired()) {
+                attributes.put(USER_ID_ATTRIBUTE, tokenInfo.getUserId());
+            }
+        } catch (RuntimeException e) {
+            log.debug("웹소켓 연결 토큰 검증 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.park.restapi.util.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토픽별 구독 세션 색인.
+ * 토픽 -> 세션 ID 와 세션 ID -> 토픽 양방향으로 관리해서 발행은 구독자 수만큼, 연결 종료 정리는 구독 토픽 수만큼만 든다.
+ * 한 세션의 구독/해제/정리는 세션 키의 compute 안에서 진행해서 서로 겹치지 않는다.
+ */
+class TopicIndex {
+
+    // 세션 하나가 구독할 수 있는 최대 토픽 수
+    static final int MAX_TOPICS_PER_SESSION = 32;
+
+    private final Map<String, Set<String>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> topicsBySession = new ConcurrentHashMap<>();
+
+    // 구독, 구독 가능 개수를 넘으면 false
+    boolean subscribe(String sessionId, String topic) {
+        boolean[] subscribed = {false};
+        topicsBySession.compute(sessionId, (key, topics) -> {
+            Set<String> result = topics == null ? ConcurrentHashMap.newKeySet() : topics;
+            if (!result.contains(topic) && result.size() >= MAX_TOPICS_PER_SESSION) {
+                return topics;
+            }
+            result.add(topic);
+
+            // 빈 집합 제거와 겹치지 않도록 compute 안에서 추가
+            subscribers.compute(topic, (topicKey, sessionIds) -> {
+                Set<String> added = sessionIds == null ? ConcurrentHashMap.newKeySet() : sessionIds;
+                added.add(sessionId);
+                return added;
+            });
+            subscribed[0] = true;
+            return result;
+        });
+        return subscribed[0];
+    }
+
+    // 구독 해제
+    void unsubscribe(String sessionId, String topic) {
+        topicsBySession.computeIfPresent(sessionId, (key, topics) -> {
+            topics.remove(topic);
+            removeSubscriber(topic, sessionId);
+            return topics.isEmpty() ? null : topics;
+        });
+    }
+
+    // 세션의 모든 구독 해제
+    void removeSession(String sessionId) {
+        topicsBySession.computeIfPresent(sessionId, (key, topics) -> {
+            for (String topic : topics) {
+                removeSubscriber(topic, sessionId);
+            }
+            return null;
+        });
+    }
+
+    Set<String> subscribers(String topic) {
+        return subscribers.getOrDefault(topic, Set.of());
+    }
+
+    int topicCount() {
+        return subscribers.size();
+    }
+
+    private void removeSubscriber(String topic, String sessionId) {
+        subscribers.computeIfPresent(topic, (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+}
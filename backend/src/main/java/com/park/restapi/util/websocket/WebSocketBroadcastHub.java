@@ -0,0 +1,247 @@
+package com.park.restapi.util.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹소켓 세션 관리 및 브로드캐스트.
+ * 세션마다 전송 큐를 두고 보낼 메시지는 큐에 넣기만 한다. 큐는 세션마다 한 번에 작업 하나만 전용 스레드풀에서 비우므로
+ * 느린 클라이언트는 자기 작업만 붙잡고 다른 세션의 전송을 막지 않는다.
+ * 전송 하나가 SEND_TIME_LIMIT 를 넘기거나 쌓인 메시지가 BUFFER_SIZE_LIMIT 를 넘은 세션은 연결을 끊는다.
+ * 메시지는 한 번만 만들어서 모든 세션이 공유하고, 토픽 발행은 토픽 색인에서 구독 세션만 찾아서 보낸다.
+ */
+@Component
+@Slf4j
+public class WebSocketBroadcastHub {
+
+    // 한 번의 전송에 허용하는 최대 시간(ms)
+    static final int SEND_TIME_LIMIT = 5000;
+    // 세션별 전송 대기 버퍼 최대 크기(byte)
+    static final int BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final Map<String, SessionOutbox> sessions = new ConcurrentHashMap<>();
+    private final TopicIndex topicIndex = new TopicIndex();
+    private final Executor webSocketExecutor;
+    private final Counter droppedSessions;
+
+    public WebSocketBroadcastHub(@Qualifier("webSocketExecutor") Executor webSocketExecutor, MeterRegistry meterRegistry) {
+        this.webSocketExecutor = webSocketExecutor;
+        this.droppedSessions = Counter.builder("websocket.sessions.dropped")
+                .description("전송 지연으로 끊긴 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("연결된 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.topics", topicIndex, TopicIndex::topicCount)
+                .description("구독자가 있는 토픽 수")
+                .register(meterRegistry);
+    }
+
+    // 세션 등록, 이후 전송은 이 클래스를 거쳐야 한다.
+    public WebSocketSession register(WebSocketSession session) {
+        sessions.put(session.getId(), new SessionOutbox(session));
+        return session;
+    }
+
+    // 세션 해제
+    public void unregister(String sessionId) {
+        sessions.remove(sessionId);
+        topicIndex.removeSession(sessionId);
+    }
+
+    // 토픽 구독, 연결이 없거나 구독 개수를 넘으면 false
+    public boolean subscribe(String sessionId, String topic) {
+        if (!sessions.containsKey(sessionId) || !topicIndex.subscribe(sessionId, topic)) {
+            return false;
+        }
+        // 구독 중에 연결이 끊겼으면 unregister 의 정리보다 늦게 추가됐을 수 있으므로 다시 정리
+        if (!sessions.containsKey(sessionId)) {
+            topicIndex.removeSession(sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    // 토픽 구독 해제
+    public void unsubscribe(String sessionId, String topic) {
+        topicIndex.unsubscribe(sessionId, topic);
+    }
+
+    // 토픽 구독 세션에만 전송
+    public void publish(String topic, String payload) {
+        Set<String> sessionIds = topicIndex.subscribers(topic);
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+
+        TextMessage message = new TextMessage(payload);
+        for (String sessionId : sessionIds) {
+            SessionOutbox outbox = sessions.get(sessionId);
+            if (outbox == null) {
+                topicIndex.removeSession(sessionId);
+            } else {
+                enqueue(outbox, message);
+            }
+        }
+    }
+
+    public WebSocketSession getSession(String sessionId) {
+        SessionOutbox outbox = sessions.get(sessionId);
+        return outbox == null ? null : outbox.session;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    // 모든 세션에 전송
+    public void broadcast(String payload) {
+        TextMessage message = new TextMessage(payload);
+        for (SessionOutbox outbox : sessions.values()) {
+            enqueue(outbox, message);
+        }
+    }
+
+    // 백플레인에서 받은 메시지를 이 서버의 세션에 전달
+    public void deliverLocal(String topic, String payload) {
+        if (WebSocketTopic.ALL.equals(topic)) {
+            broadcast(payload);
+        } else {
+            publish(topic, payload);
+        }
+    }
+
+    // 지정한 세션들에 같은 메시지 전송
+    public void send(Collection<WebSocketSession> targets, TextMessage message) {
+        for (WebSocketSession target : targets) {
+            send(target, message);
+        }
+    }
+
+    // 한 세션에 전송
+    public void send(WebSocketSession target, WebSocketMessage<?> message) {
+        SessionOutbox outbox = sessions.get(target.getId());
+        if (outbox != null) {
+            enqueue(outbox, message);
+        }
+    }
+
+    // 응답 없는 세션 강제 종료
+    public void evict(String sessionId) {
+        WebSocketSession session = getSession(sessionId);
+        unregister(sessionId);
+        if (session != null) {
+            closeQuietly(session);
+        }
+    }
+
+    // 전송 큐에 넣는다. 한계를 넘은 느린 클라이언트는 연결을 끊는다.
+    private void enqueue(SessionOutbox outbox, WebSocketMessage<?> message) {
+        if (outbox.offer(message)) {
+            return;
+        }
+        droppedSessions.increment();
+        unregister(outbox.session.getId());
+        closeQuietly(outbox.session);
+        log.warn("느린 클라이언트 연결 종료 - 세션 ID : {}, 대기 중인 크기 : {}", outbox.session.getId(), outbox.bufferedBytes.get());
+    }
+
+    // 전송, 세션이 닫혔거나 실패해서 제거했으면 false
+    private boolean deliver(WebSocketSession target, WebSocketMessage<?> message) {
+        if (!target.isOpen()) {
+            unregister(target.getId());
+            return false;
+        }
+
+        try {
+            target.sendMessage(message);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            unregister(target.getId());
+            closeQuietly(target);
+            log.warn("웹소켓 전송 실패 - 세션 ID : {}, 오류 : {}", target.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("웹소켓 세션 종료 실패 - 세션 ID : {}", session.getId());
+        }
+    }
+
+    // 세션 하나의 전송 큐, 한 번에 작업 하나만 큐를 비운다.
+    private final class SessionOutbox {
+
+        private final WebSocketSession session;
+        private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger bufferedBytes = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 전송 작업을 맡기거나 메시지 하나를 보내기 시작한 시각
+        private volatile long busySince;
+
+        private SessionOutbox(WebSocketSession session) {
+            this.session = session;
+        }
+
+        // 큐에 넣고 비우는 작업이 없으면 시작, 전송이 제한 시간을 넘겼거나 버퍼가 가득 차면 false
+        // 스레드풀이 가득 차서 작업이 버려진 경우도 제한 시간이 지나면 여기서 걸러진다.
+        private boolean offer(WebSocketMessage<?> message) {
+            if (draining.get() && System.currentTimeMillis() - busySince > SEND_TIME_LIMIT) {
+                return false;
+            }
+            if (bufferedBytes.addAndGet(message.getPayloadLength()) > BUFFER_SIZE_LIMIT) {
+                return false;
+            }
+            queue.add(message);
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                busySince = System.currentTimeMillis();
+                webSocketExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            boolean alive = true;
+            try {
+                WebSocketMessage<?> message;
+                while (alive && (message = queue.poll()) != null) {
+                    bufferedBytes.addAndGet(-message.getPayloadLength());
+                    busySince = System.currentTimeMillis();
+                    alive = deliver(session, message);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 마지막으로 확인한 뒤에 들어온 메시지
+            if (alive && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
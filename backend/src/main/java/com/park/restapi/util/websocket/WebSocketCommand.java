@@ -0,0 +1,10 @@
+package com.park.restapi.util.websocket;
+
+// 클라이언트 요청 메시지 ex) {"type":"subscribe","topic":"post:1"}
+public record WebSocketCommand(
+        String type,
+        String topic
+) {
+    public static final String SUBSCRIBE = "subscribe";
+    public static final String UNSUBSCRIBE = "unsubscribe";
+}
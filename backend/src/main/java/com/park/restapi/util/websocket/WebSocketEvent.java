@@ -0,0 +1,9 @@
+package com.park.restapi.util.websocket;
+
+// 서버가 보내는 메시지 ex) {"topic":"post:1","type":"like","data":{"likeCount":3}}
+public record WebSocketEvent(
+        String topic,
+        String type,
+        Object data
+) {
+}
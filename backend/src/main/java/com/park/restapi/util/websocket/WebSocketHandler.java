@@ -1,20 +1,25 @@
 package com.park.restapi.util.websocket;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class WebSocketHandler extends TextWebSocketHandler {
 
-    private final List<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
+    private final WebSocketBroadcastHub broadcastHub;
+    private final WebSocketPublisher webSocketPublisher;
+    private final WebSocketHeartbeat heartbeat;
+    private final ObjectMapper objectMapper;
 
     /**
      * 클라이언트로부터 메시지가 도착했을 때 호출되는 메소드
@@ -23,14 +28,18 @@ public class WebSocketHandler extends TextWebSocketHandler {
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         // 클라이언트로부터 받은 메시지
         String payload = message.getPayload();
-        log.info("클라이언트에게 온 메시지 : " + payload);
+        heartbeat.touch(session.getId());
+        log.debug("클라이언트에게 온 메시지 - 세션 ID : {}, 길이 : {}", session.getId(), payload.length());
 
-        // 모든 클라이언트에게 메시지 전송
-        for (WebSocketSession webSocketSession : sessions) {
-            if (session.isOpen()) {
-                webSocketSession.sendMessage(new TextMessage("서버에서 보내는 메시지 : " + payload));
-            }
+        // 구독/구독 해제 요청
+        WebSocketCommand command = parseCommand(payload);
+        if (command != null) {
+            handleCommand(session, command);
+            return;
         }
+
+        // 모든 클라이언트에게 메시지 전송
+        webSocketPublisher.broadcast("서버에서 보내는 메시지 : " + payload);
     }
 
     /**
@@ -38,15 +47,13 @@ public class WebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        sessions.add(session);
-        log.info("클라이언트와 연결 성공 : " + session.getId() + ", 접속 IP : " + session.getRemoteAddress().getHostName()
-                + ", 접속 URI : " + session.getUri() + ", 접속 ID : " + session.getAttributes().get("userId"));
+        broadcastHub.register(session);
+        heartbeat.register(session.getId());
+        log.info("클라이언트와 연결 성공 - 세션 ID : {}, 접속 IP : {}, 접속 URI : {}, 접속 ID : {}", session.getId(),
+                session.getRemoteAddress() == null ? null : session.getRemoteAddress().getHostString(),
+                session.getUri(), session.getAttributes().get("userId"));
         // 모든 클라이언트에게 메시지 전송
-        for (WebSocketSession webSocketSession : sessions) {
-            if (session.isOpen()) {
-                webSocketSession.sendMessage(new TextMessage("서버에서 보내는 메시지 : " + session.getId() + "님이 접속하셨습니다."));
-            }
-        }
+        webSocketPublisher.broadcast("서버에서 보내는 메시지 : " + session.getId() + "님이 접속하셨습니다.");
     }
 
     /**
@@ -54,13 +61,66 @@ public class WebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        sessions.remove(session);
-        log.info("클라이언트와 연결 끊김, 세션 ID : " + session.getId() + ", CloseStatus : " + status);
+        broadcastHub.unregister(session.getId());
+        heartbeat.unregister(session.getId());
+        log.info("클라이언트와 연결 끊김 - 세션 ID : {}, CloseStatus : {}", session.getId(), status);
         // 모든 클라이언트에게 메시지 전송
-        for (WebSocketSession webSocketSession : sessions) {
-            if (session.isOpen()) {
-                webSocketSession.sendMessage(new TextMessage("서버에서 보내는 메시지 : " + session.getId() + "님이 퇴장하셨습니다."));
+        webSocketPublisher.broadcast("서버에서 보내는 메시지 : " + session.getId() + "님이 퇴장하셨습니다.");
+    }
+
+    /**
+     * ping 에 대한 응답이 왔을 때 호출되는 메소드
+     */
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
+        heartbeat.touch(session.getId());
+    }
+
+    /**
+     * 전송 오류 발생 시 세션 정리
+     */
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        broadcastHub.unregister(session.getId());
+        heartbeat.unregister(session.getId());
+        log.warn("웹소켓 전송 오류 - 세션 ID : {}, 오류 : {}", session.getId(), exception.getMessage());
+    }
+
+    // JSON 형식의 구독 요청이 아니면 null
+    private WebSocketCommand parseCommand(String payload) {
+        if (payload.isEmpty() || payload.charAt(0) != '{') {
+            return null;
+        }
+        try {
+            WebSocketCommand command = objectMapper.readValue(payload, WebSocketCommand.class);
+            return command.type() == null ? null : command;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void handleCommand(WebSocketSession session, WebSocketCommand command) throws JsonProcessingException {
+        Long userId = (Long) session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        // 응답은 클라이언트가 보낸 토픽 이름으로 보낸다.
+        String requested = command.topic();
+        String topic = WebSocketTopic.resolve(requested, userId);
+
+        switch (command.type()) {
+            case WebSocketCommand.SUBSCRIBE -> {
+                boolean subscribed = WebSocketTopic.canSubscribe(topic, userId)
+                        && broadcastHub.subscribe(session.getId(), topic);
+                reply(session, requested, subscribed ? "subscribed" : "rejected");
             }
+            case WebSocketCommand.UNSUBSCRIBE -> {
+                broadcastHub.unsubscribe(session.getId(), topic);
+                reply(session, requested, "unsubscribed");
+            }
+            default -> reply(session, requested, "rejected");
         }
     }
+
+    private void reply(WebSocketSession session, String topic, String type) throws JsonProcessingException {
+        String payload = objectMapper.writeValueAsString(new WebSocketEvent(topic, type, null));
+        broadcastHub.send(session, new TextMessage(payload));
+    }
 }
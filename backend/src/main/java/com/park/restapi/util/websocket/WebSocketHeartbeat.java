@@ -0,0 +1,125 @@
+package com.park.restapi.util.websocket;
+
+import com.park.restapi.util.timer.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹소켓 연결 상태 확인.
+ * 세션마다 마지막 수신 시각을 기록하고, 조용한 세션에는 타이밍 휠에 맞춰 ping 을 보낸다.
+ * pong 이나 메시지 없이 ping 이 MAX_MISSED_PONGS 번 쌓이면 끊긴 연결로 보고 정리한다.
+ */
+@Component
+@Slf4j
+public class WebSocketHeartbeat {
+
+    static final long PING_INTERVAL_MILLIS = 20_000;
+    static final int MAX_MISSED_PONGS = 3;
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+
+    private final WebSocketBroadcastHub broadcastHub;
+    private final Clock clock;
+    private final TimingWheel<String> wheel;
+    private final Map<String, HeartbeatState> states = new ConcurrentHashMap<>();
+    private final Counter evictedSessions;
+
+    @Autowired
+    public WebSocketHeartbeat(WebSocketBroadcastHub broadcastHub, MeterRegistry meterRegistry) {
+        this(broadcastHub, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    WebSocketHeartbeat(WebSocketBroadcastHub broadcastHub, MeterRegistry meterRegistry, Clock clock) {
+        this.broadcastHub = broadcastHub;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+        this.evictedSessions = Counter.builder("websocket.sessions.evicted")
+                .description("응답이 없어 정리된 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.heartbeat.tracked", states, Map::size)
+                .description("연결 상태를 확인 중인 세션 수")
+                .register(meterRegistry);
+    }
+
+    // 연결 시 등록
+    public void register(String sessionId) {
+        long now = clock.millis();
+        states.put(sessionId, new HeartbeatState(now));
+        wheel.schedule(sessionId, now + PING_INTERVAL_MILLIS);
+    }
+
+    // 연결 종료 시 해제
+    public void unregister(String sessionId) {
+        states.remove(sessionId);
+    }
+
+    // pong 이나 메시지를 받으면 호출
+    public void touch(String sessionId) {
+        HeartbeatState state = states.get(sessionId);
+        if (state != null) {
+            state.lastSeen = clock.millis();
+            state.missedPongs.set(0);
+        }
+    }
+
+    // 1초마다 확인 시점이 된 세션만 검사
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        long now = clock.millis();
+        wheel.advance(now, sessionId -> check(sessionId, now));
+    }
+
+    private void check(String sessionId, long now) {
+        HeartbeatState state = states.get(sessionId);
+        if (state == null) {
+            return;
+        }
+
+        WebSocketSession session = broadcastHub.getSession(sessionId);
+        if (session == null) {
+            states.remove(sessionId);
+            return;
+        }
+
+        // 최근에 받은 게 있으면 다음 확인 시점만 미룬다.
+        long quietFor = now - state.lastSeen;
+        if (quietFor < PING_INTERVAL_MILLIS) {
+            wheel.schedule(sessionId, state.lastSeen + PING_INTERVAL_MILLIS);
+            return;
+        }
+
+        if (state.missedPongs.get() >= MAX_MISSED_PONGS) {
+            states.remove(sessionId);
+            broadcastHub.evict(sessionId);
+            evictedSessions.increment();
+            log.info("응답 없는 웹소켓 세션 정리 - 세션 ID : {}, 마지막 수신 : {}ms 전", sessionId, quietFor);
+            return;
+        }
+
+        state.missedPongs.incrementAndGet();
+        broadcastHub.send(session, new PingMessage());
+        wheel.schedule(sessionId, now + PING_INTERVAL_MILLIS);
+    }
+
+    private static final class HeartbeatState {
+        private volatile long lastSeen;
+        private final AtomicInteger missedPongs = new AtomicInteger();
+
+        private HeartbeatState(long lastSeen) {
+            this.lastSeen = lastSeen;
+        }
+    }
+}
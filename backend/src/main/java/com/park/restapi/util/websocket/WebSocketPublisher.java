@@ -0,0 +1,56 @@
+package com.park.restapi.util.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.park.restapi.util.transaction.AfterCommit;
+import com.park.restapi.util.websocket.backplane.BroadcastBackplane;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 서비스에서 웹소켓 토픽으로 이벤트를 발행할 때 사용, 백플레인을 거쳐 모든 서버의 구독자에게 전달된다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketPublisher {
+
+    private final BroadcastBackplane broadcastBackplane;
+    private final WebSocketBroadcastHub broadcastHub;
+    private final ObjectMapper objectMapper;
+
+    // 즉시 발행
+    public void publish(String topic, String type, Object data) {
+        String payload = serialize(topic, type, data);
+        if (payload != null) {
+            broadcastBackplane.publish(topic, payload);
+        }
+    }
+
+    // 이 서버의 구독자에게만 발행
+    // 서버마다 DB 에서 다시 읽어 주기적으로 보내는 스냅샷 값은 다른 서버로 보내면 서버별 값이 섞여서 숫자가 오락가락한다.
+    public void publishLocal(String topic, String type, Object data) {
+        String payload = serialize(topic, type, data);
+        if (payload != null) {
+            broadcastHub.deliverLocal(topic, payload);
+        }
+    }
+
+    // 모든 서버의 모든 세션에 전송
+    public void broadcast(String payload) {
+        broadcastBackplane.publish(WebSocketTopic.ALL, payload);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 발행(롤백되면 발행하지 않음)
+    public void publishAfterCommit(String topic, String type, Object data) {
+        AfterCommit.run(() -> publish(topic, type, data));
+    }
+
+    private String serialize(String topic, String type, Object data) {
+        try {
+            return objectMapper.writeValueAsString(new WebSocketEvent(topic, type, data));
+        } catch (JsonProcessingException e) {
+            log.warn("웹소켓 이벤트 직렬화 실패 - 토픽 : {}, 타입 : {}, 오류 : {}", topic, type, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.park.restapi.util.websocket;
+
+import java.util.Objects;
+
+// 웹소켓 구독 토픽 이름
+public final class WebSocketTopic {
+
+    // 연결된 모든 세션(구독 불가, 서버 발행 전용)
+    public static final String ALL = "*";
+    // 선착순 쿠폰 재고
+    public static final String COUPON = "coupon";
+    // 게시글별 좋아요/조회수
+    private static final String POST_PREFIX = "post:";
+    // 유저별 알림(문의 답변, 쿠폰 획득 결과 등)
+    private static final String USER_PREFIX = "user:";
+    // 클라이언트가 자기 유저 토픽을 구독할 때 사용하는 이름(유저 ID 를 몰라도 된다)
+    public static final String ME = "me";
+
+    private WebSocketTopic() {
+    }
+
+    public static String post(Long postId) {
+        return POST_PREFIX + postId;
+    }
+
+    public static String user(Long userId) {
+        return USER_PREFIX + userId;
+    }
+
+    // 구독 요청 토픽을 실제 토픽으로 변환, me 는 로그인한 유저의 토픽
+    public static String resolve(String topic, Long userId) {
+        return ME.equals(topic) && userId != null ? user(userId) : topic;
+    }
+
+    // 구독 가능한 토픽인지 확인, 유저 토픽은 본인 것만 구독할 수 있다.
+    public static boolean canSubscribe(String topic, Long userId) {
+        if (topic == null) {
+            return false;
+        }
+        if (COUPON.equals(topic)) {
+            return true;
+        }
+        if (topic.startsWith(POST_PREFIX)) {
+            return isNumber(topic, POST_PREFIX.length());
+        }
+        if (topic.startsWith(USER_PREFIX)) {
+            return userId != null && Objects.equals(topic, user(userId));
+        }
+        return false;
+    }
+
+    private static boolean isNumber(String value, int from) {
+        if (value.length() == from || value.length() - from > 19) {
+            return false;
+        }
+        for (int i = from; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.park.restapi.util.websocket.backplane;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 서버 간 전달 메시지 및 직렬화 형식(버전, 보낸 서버 ID, 토픽, 본문 길이, 본문)
+record BackplaneMessage(
+        String nodeId,
+        String topic,
+        String payload
+) {
+    private static final byte VERSION = 1;
+
+    byte[] encode() {
+        try {
+            byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            out.writeUTF(nodeId);
+            out.writeUTF(topic);
+            out.writeInt(body.length);
+            out.write(body);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("메시지 직렬화 실패", e);
+        }
+    }
+
+    static BackplaneMessage decode(byte[] data, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 메시지 버전 : " + version);
+        }
+        String nodeId = in.readUTF();
+        String topic = in.readUTF();
+        int bodyLength = in.readInt();
+        if (bodyLength < 0 || bodyLength > length) {
+            throw new IOException("잘못된 본문 길이 : " + bodyLength);
+        }
+        byte[] body = in.readNBytes(bodyLength);
+        if (body.length != bodyLength) {
+            throw new IOException("본문이 잘렸습니다. 기대 길이 : " + bodyLength + ", 실제 길이 : " + body.length);
+        }
+        return new BackplaneMessage(nodeId, topic, new String(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package com.park.restapi.util.websocket.backplane;
+
+/**
+ * 서버 간 웹소켓 메시지 전달 통로.
+ * 어느 서버에서 발행해도 모든 서버(자기 자신 포함)의 구독자에게 전달된다.
+ */
+public interface BroadcastBackplane {
+
+    // topic 이 WebSocketTopic.ALL 이면 모든 세션에 전달
+    void publish(String topic, String payload);
+}
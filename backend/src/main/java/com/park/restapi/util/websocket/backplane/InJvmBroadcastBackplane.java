@@ -0,0 +1,20 @@
+package com.park.restapi.util.websocket.backplane;
+
+import com.park.restapi.util.websocket.WebSocketBroadcastHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 서버용, 현재 JVM 의 세션에만 전달
+@Component
+@ConditionalOnProperty(name = "websocket.backplane.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InJvmBroadcastBackplane implements BroadcastBackplane {
+
+    private final WebSocketBroadcastHub broadcastHub;
+
+    @Override
+    public void publish(String topic, String payload) {
+        broadcastHub.deliverLocal(topic, payload);
+    }
+}
@@ -0,0 +1,175 @@
+package com.park.restapi.util.websocket.backplane;
+
+import com.park.restapi.util.websocket.WebSocketBroadcastHub;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * UDP 멀티캐스트 기반 서버 간 전달.
+ * 같은 네트워크의 서버들이 하나의 멀티캐스트 그룹에 참여하고, 발행한 메시지는 자기 세션에 바로 전달한 뒤 그룹으로 보낸다.
+ * UDP 특성상 유실될 수 있으므로 쿠폰 재고처럼 주기적으로 다시 보내는 데이터나 알림 용도로만 사용한다.
+ * 같은 네트워크의 다른 호스트도 그룹으로 보낼 수 있으므로, 패킷 끝에 공유 비밀키(websocket.backplane.secret)로 만든
+ * HMAC-SHA256 서명을 붙이고 서명이 맞지 않는 패킷은 버린다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.backplane.type", havingValue = "multicast")
+@Slf4j
+public class MulticastBroadcastBackplane implements BroadcastBackplane {
+
+    // IPv4 UDP 데이터그램 최대 크기
+    static final int MAX_PACKET_SIZE = 65_507;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_SIZE = 32;
+    // 소켓 오류가 계속될 때 다시 받기까지 기다리는 시간
+    private static final long RECEIVE_RETRY_MILLIS = 1000;
+
+    private final WebSocketBroadcastHub broadcastHub;
+    private final InetSocketAddress group;
+    private final String interfaceName;
+    private final SecretKeySpec signingKey;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private MulticastSocket socket;
+    private NetworkInterface networkInterface;
+    private Thread receiver;
+    private volatile boolean running;
+
+    public MulticastBroadcastBackplane(WebSocketBroadcastHub broadcastHub,
+                                       @Value("${websocket.backplane.group:239.10.0.1}") String groupAddress,
+                                       @Value("${websocket.backplane.port:45600}") int port,
+                                       @Value("${websocket.backplane.interface:}") String interfaceName,
+                                       @Value("${websocket.backplane.secret:}") String secret) throws IOException {
+        if (secret.isBlank()) {
+            throw new IllegalArgumentException("멀티캐스트 백플레인은 websocket.backplane.secret 설정이 필요합니다.");
+        }
+        this.broadcastHub = broadcastHub;
+        this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+        this.interfaceName = interfaceName;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        socket = new MulticastSocket(group.getPort());
+        networkInterface = interfaceName.isBlank() ? null : NetworkInterface.getByName(interfaceName);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.joinGroup(group, networkInterface);
+
+        running = true;
+        receiver = new Thread(this::receiveLoop, "Backplane-Receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        log.info("멀티캐스트 백플레인 시작 - 그룹 : {}, 서버 ID : {}", group, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            socket.leaveGroup(group, networkInterface);
+        } catch (IOException e) {
+            log.debug("멀티캐스트 그룹 탈퇴 실패 : {}", e.getMessage());
+        }
+        socket.close();
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        broadcastHub.deliverLocal(topic, payload);
+
+        byte[] message = new BackplaneMessage(nodeId, topic, payload).encode();
+        if (message.length + SIGNATURE_SIZE > MAX_PACKET_SIZE) {
+            log.warn("백플레인 메시지가 너무 커서 다른 서버로 보내지 않습니다. 토픽 : {}, 크기 : {}", topic, message.length);
+            return;
+        }
+        byte[] packet = Arrays.copyOf(message, message.length + SIGNATURE_SIZE);
+        System.arraycopy(sign(message, 0, message.length), 0, packet, message.length, SIGNATURE_SIZE);
+
+        try {
+            socket.send(new DatagramPacket(packet, packet.length, group));
+        } catch (IOException e) {
+            log.warn("백플레인 전송 실패 - 토픽 : {}, 오류 : {}", topic, e.getMessage());
+        }
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[MAX_PACKET_SIZE];
+        while (running) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                int messageLength = packet.getLength() - SIGNATURE_SIZE;
+                if (messageLength <= 0 || !verify(packet.getData(), packet.getOffset(), messageLength)) {
+                    log.warn("서명이 맞지 않는 백플레인 패킷을 버립니다. 보낸 주소 : {}", packet.getSocketAddress());
+                    continue;
+                }
+                BackplaneMessage message = BackplaneMessage.decode(packet.getData(), packet.getOffset(), messageLength);
+                // 자신이 보낸 메시지는 이미 전달함
+                if (!nodeId.equals(message.nodeId())) {
+                    broadcastHub.deliverLocal(message.topic(), message.payload());
+                }
+            } catch (SocketException e) {
+                if (!running || socket.isClosed()) {
+                    return;
+                }
+                log.warn("백플레인 소켓 오류 : {}", e.getMessage());
+                if (!pause()) {
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("백플레인 메시지 처리 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 소켓 오류가 계속돼도 바로 다시 받지 않고 잠시 기다린다. 인터럽트되면 false
+    private boolean pause() {
+        try {
+            Thread.sleep(RECEIVE_RETRY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean verify(byte[] data, int offset, int messageLength) {
+        byte[] expected = sign(data, offset, messageLength);
+        byte[] actual = Arrays.copyOfRange(data, offset + messageLength, offset + messageLength + SIGNATURE_SIZE);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    // Mac 은 스레드 안전하지 않아서 호출마다 만든다.
+    private byte[] sign(byte[] data, int offset, int length) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            mac.update(data, offset, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("백플레인 메시지 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.park.restapi.domain.api.repository;
+
+import com.park.restapi.domain.api.dto.response.ApiRequestHistoryResponseDTO;
+import com.park.restapi.domain.api.entity.ApiRequestHistory;
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class ApiRequestHistoryRepositoryTest {
+
+    @Autowired
+    private ApiRequestHistoryRepository apiRequestHistoryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        Member first = saveMember("first@naver.com", "first");
+        Member second = saveMember("second@naver.com", "second");
+        saveHistory(first, "첫 번째 요청");
+        saveHistory(first, "두 번째 요청");
+        saveHistory(second, "세 번째 요청");
+    }
+
+    @Test
+    @DisplayName("이메일 앞부분으로 검색")
+    void searchByEmailPrefix() {
+        // when
+        Page<ApiRequestHistoryResponseDTO> page = apiRequestHistoryRepository.searchApiRequestHistoryByCondition(
+                PageRequest.of(0, 10), "email", "fir");
+
+        // then
+        Assertions.assertEquals(2, page.getTotalElements());
+        Assertions.assertTrue(page.getContent().stream().allMatch(dto -> "first@naver.com".equals(dto.email())));
+    }
+
+    @Test
+    @DisplayName("'@' 가 있으면 이메일 정확히 일치, 중간 부분은 검색되지 않음")
+    void searchByEmailExact() {
+        // when
+        Page<ApiRequestHistoryResponseDTO> exact = apiRequestHistoryRepository.searchApiRequestHistoryByCondition(
+                PageRequest.of(0, 10), "email", "second@naver.com");
+        Page<ApiRequestHistoryResponseDTO> middle = apiRequestHistoryRepository.searchApiRequestHistoryByCondition(
+                PageRequest.of(0, 10), "email", "naver");
+
+        // then
+        Assertions.assertEquals(1, exact.getTotalElements());
+        Assertions.assertEquals(0, middle.getTotalElements());
+        Assertions.assertTrue(middle.getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("내보내기는 해당 달의 이력을 요청 시간 순서로 읽음")
+    void streamForExport() {
+        // given
+        YearMonth month = YearMonth.now();
+
+        // when
+        List<ApiRequestHistoryResponseDTO> thisMonth;
+        try (Stream<ApiRequestHistoryResponseDTO> stream = apiRequestHistoryRepository.streamForExport(
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay())) {
+            thisMonth = stream.toList();
+        }
+        long lastMonth;
+        try (Stream<ApiRequestHistoryResponseDTO> stream = apiRequestHistoryRepository.streamForExport(
+                month.minusMonths(1).atDay(1).atStartOfDay(), month.atDay(1).atStartOfDay())) {
+            lastMonth = stream.count();
+        }
+
+        // then
+        Assertions.assertEquals(3, thisMonth.size());
+        Assertions.assertEquals("첫 번째 요청", thisMonth.get(0).requestContent());
+        Assertions.assertEquals("second@naver.com", thisMonth.get(2).email());
+        Assertions.assertEquals(0, lastMonth);
+    }
+
+    private Member saveMember(String email, String nickname) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .nickname(nickname)
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build());
+    }
+
+    private void saveHistory(Member member, String requestContent) {
+        apiRequestHistoryRepository.save(ApiRequestHistory.builder()
+                .member(member)
+                .requestStatus(true)
+                .methodType(MethodType.GET)
+                .requestContent(requestContent)
+                .responseContent("응답").build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.park.restapi.domain.api.service.impl;
+
+import com.park.restapi.domain.api.entity.ApiUsageRollup;
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.repository.ApiUsageCounts;
+import com.park.restapi.domain.api.repository.ApiUsageRollupRepository;
+import com.park.restapi.domain.api.store.ApiRequestHistoryEvent;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiUsageServiceImplTest {
+
+    @Mock
+    private ApiUsageRollupRepository apiUsageRollupRepository;
+    @Mock
+    private ApiRequestHistoryRepository apiRequestHistoryRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @InjectMocks
+    private ApiUsageServiceImpl apiUsageService;
+
+    @Test
+    @DisplayName("유저별로 성공, 실패 수를 묶어서 한 번씩 증가")
+    void recordUsage() {
+        // given
+        when(apiUsageRollupRepository.increase(any(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // when
+        apiUsageService.recordUsage(List.of(event(1L, true), event(1L, true), event(1L, false), event(2L, true)));
+
+        // then
+        verify(apiUsageRollupRepository).increase(eq(1L), eq(2L), eq(1L), any());
+        verify(apiUsageRollupRepository).increase(eq(2L), eq(1L), eq(0L), any());
+        verify(memberRepository).increaseUsedTokens(1L, 2L);
+        verify(memberRepository).increaseUsedTokens(2L, 1L);
+        verify(apiUsageRollupRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("집계가 없는 유저는 이력 전체로 집계 생성")
+    void recordUsage_newMember() {
+        // given
+        when(apiUsageRollupRepository.increase(any(), anyLong(), anyLong(), any())).thenReturn(0);
+        when(apiRequestHistoryRepository.countUsage(1L)).thenReturn(new ApiUsageCounts(5, 2, LocalDateTime.now()));
+
+        // when
+        apiUsageService.recordUsage(List.of(event(1L, true)));
+
+        // then
+        ArgumentCaptor<ApiUsageRollup> captor = ArgumentCaptor.forClass(ApiUsageRollup.class);
+        verify(apiUsageRollupRepository).saveAndFlush(captor.capture());
+        Assertions.assertEquals(1L, captor.getValue().getMemberId());
+        Assertions.assertEquals(5, captor.getValue().getSuccessCount());
+        Assertions.assertEquals(2, captor.getValue().getFailureCount());
+    }
+
+    private ApiRequestHistoryEvent event(Long memberId, boolean requestStatus) {
+        return new ApiRequestHistoryEvent(memberId, requestStatus, MethodType.GET, "요청", "응답");
+    }
+}
@@ -0,0 +1,103 @@
+package com.park.restapi.domain.api.store;
+
+import com.park.restapi.domain.api.entity.ApiRequestHistory;
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.api.repository.ApiRequestHistoryRepository;
+import com.park.restapi.domain.api.service.ApiUsageService;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiRequestHistoryWriterTest {
+
+    @Mock
+    private ApiRequestHistoryRepository apiRequestHistoryRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private ApiUsageService apiUsageService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApiRequestHistoryWriter apiRequestHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        apiRequestHistoryWriter = new ApiRequestHistoryWriter(apiRequestHistoryRepository, memberRepository,
+                apiUsageService, meterRegistry, transactionManager);
+        apiRequestHistoryWriter.start();
+    }
+
+    @Test
+    @DisplayName("넣은 이력은 종료 전까지 모두 저장")
+    void flushOnShutdown() throws InterruptedException {
+        // given
+        for (long memberId = 1; memberId <= 3; memberId++) {
+            apiRequestHistoryWriter.enqueue(event(memberId));
+        }
+
+        // when
+        apiRequestHistoryWriter.stop();
+
+        // then
+        assertEquals(3, savedHistories());
+        assertEquals(3.0, meterRegistry.counter("api.history.written").count());
+    }
+
+    @Test
+    @DisplayName("종료 뒤에 들어온 이력은 바로 저장")
+    void writeAfterShutdown() throws InterruptedException {
+        // given
+        apiRequestHistoryWriter.stop();
+
+        // when
+        apiRequestHistoryWriter.enqueue(event(1L));
+
+        // then
+        assertEquals(1, savedHistories());
+        assertEquals(1.0, meterRegistry.counter("api.history.written").count());
+    }
+
+    @Test
+    @DisplayName("배치 저장이 다시 시도해도 실패하면 실패 개수 기록")
+    void writeFailure() throws InterruptedException {
+        // given
+        apiRequestHistoryWriter.stop();
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(apiRequestHistoryRepository).saveAll(anyList());
+
+        // when
+        apiRequestHistoryWriter.write(List.of(event(1L), event(2L)));
+
+        // then
+        verify(apiRequestHistoryRepository, times(2)).saveAll(anyList());
+        assertEquals(2.0, meterRegistry.counter("api.history.failed").count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private int savedHistories() {
+        ArgumentCaptor<List<ApiRequestHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(apiRequestHistoryRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().stream().mapToInt(List::size).sum();
+    }
+
+    private ApiRequestHistoryEvent event(Long memberId) {
+        return new ApiRequestHistoryEvent(memberId, true, MethodType.GET, "내용", "[GET] /users");
+    }
+}
@@ -0,0 +1,115 @@
+package com.park.restapi.domain.board.repository;
+
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 게시판 페이지 조회 방식 비교(기존 ID 조회 + 본문 조회 + 개수 조회 / 지연 조인 + 필요할 때만 개수 조회).
+ * 100만 건을 넣으므로 기본 테스트에서는 빠지고 -Dbenchmark=true 로 실행한다.
+ * H2 의 실행 계획은 운영 DB(MySQL)와 달라서 결과를 그대로 믿을 수 없으므로, 비교는 MySQL 에 대고 한다.
+ * 예) ./gradlew test --tests '*PostPageQueryBenchmarkTest' -Dbenchmark=true \
+ *         -Dbenchmark.url=jdbc:mysql://localhost:3306/bench -Dbenchmark.username=bench -Dbenchmark.password=bench
+ */
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestQuerydslConfiguration.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class PostPageQueryBenchmarkTest {
+
+    private static final int POST_COUNT = 1_000_000;
+    private static final int INSERT_BATCH = 10_000;
+    private static final int ROUNDS = 50;
+    private static final int[] PAGES = {0, 1, 9, 99, 999};
+
+    // -Dbenchmark.url 이 있으면 그 DB 에 대고 측정한다.
+    @DynamicPropertySource
+    static void benchmarkDataSource(DynamicPropertyRegistry registry) {
+        String url = System.getProperty("benchmark.url");
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username", () -> System.getProperty("benchmark.username", ""));
+            registry.add("spring.datasource.password", () -> System.getProperty("benchmark.password", ""));
+        }
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("100만 건에서 기존 페이지 조회와 지연 조인 페이지 조회 비교")
+    void comparePageQueries() {
+        seed();
+
+        for (String sortBy : new String[]{"", "like"}) {
+            for (int page : PAGES) {
+                PageRequest pageRequest = PageRequest.of(page, 10);
+                assertEquals(postRepository.findRecommendPosts(pageRequest, "", "", sortBy).getContent(),
+                        postRepository.findRecommendPostsDeferred(pageRequest, "", "", sortBy, null).getContent());
+
+                long legacy = measure(round -> postRepository.findRecommendPosts(pageRequest, "", "", sortBy));
+                // 개수 캐시가 없을 때(인덱스 limit + 개수 조회)
+                long deferredWithCount = measure(round ->
+                        postRepository.findRecommendPostsDeferred(pageRequest, "", "", sortBy, null));
+                long deferredKnownTotal = measure(round ->
+                        postRepository.findRecommendPostsDeferred(pageRequest, "", "", sortBy, (long) POST_COUNT));
+
+                log.info("DB : {}, 정렬 : {}, 페이지 : {}, 기존 : {}us, 지연 조인(개수 포함) : {}us, 지연 조인(개수 캐시) : {}us",
+                        System.getProperty("benchmark.url", "H2"), sortBy.isEmpty() ? "최신" : sortBy, page + 1,
+                        legacy, deferredWithCount, deferredKnownTotal);
+            }
+        }
+    }
+
+    // 평균 실행 시간(마이크로초)
+    private long measure(IntConsumer query) {
+        for (int round = 0; round < 5; round++) {
+            query.accept(round);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            query.accept(round);
+        }
+        return (System.nanoTime() - start) / ROUNDS / 1000;
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into member (email, password, nickname, social_type, token, created_date) " +
+                "values ('bench@naver.com', 'bench', 'bench', 'GENERAL', 10, ?)", now);
+        Long memberId = jdbcTemplate.queryForObject("select id from member where email = 'bench@naver.com'", Long.class);
+
+        String sql = "insert into post (member_id, board_type, method_type, title, content, like_count, view_count, created_date) " +
+                "values (?, 'SHARE', ?, ?, '내용', ?, ?, ?)";
+        for (int from = 0; from < POST_COUNT; from += INSERT_BATCH) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < from + INSERT_BATCH; i++) {
+                rows.add(new Object[]{memberId, i % 2 == 0 ? "GET" : "POST", "제목 " + i, i % 997, i % 10_007, now});
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.park.restapi.domain.board.repository;
+
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.board.dto.response.ApiRecommendPostsResponseDTO;
+import com.park.restapi.domain.board.entity.BoardType;
+import com.park.restapi.domain.board.entity.Post;
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("test@naver.com")
+                .nickname("test")
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build());
+
+        for (int i = 1; i <= 25; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .member(member)
+                    .boardType(BoardType.SHARE)
+                    .methodType(i % 2 == 0 ? MethodType.GET : MethodType.POST)
+                    .title(i % 5 == 0 ? "100%_할인 " + i : "제목 " + i)
+                    .content("내용").build());
+            for (int like = 0; like < i % 4; like++) {
+                post.incrementLikeCount();
+            }
+        }
+        postRepository.flush();
+    }
+
+    @Test
+    @DisplayName("지연 조인 페이지 조회는 기존 조회와 같은 결과")
+    void deferredPageMatchesLegacy() {
+        String[][] conditions = {
+                {"", "", ""},
+                {"", "", "like"},
+                {"title", "100%_", ""},
+                {"methodType", "GET", "like"},
+                {"nickname", "te", ""},
+        };
+
+        for (String[] condition : conditions) {
+            for (int page = 0; page < 3; page++) {
+                // given
+                PageRequest pageRequest = PageRequest.of(page, 10);
+
+                // when
+                Page<ApiRecommendPostsResponseDTO> legacy =
+                        postRepository.findRecommendPosts(pageRequest, condition[0], condition[1], condition[2]);
+                Page<ApiRecommendPostsResponseDTO> deferred =
+                        postRepository.findRecommendPostsDeferred(pageRequest, condition[0], condition[1], condition[2], null);
+
+                // then
+                assertEquals(legacy.getContent(), deferred.getContent());
+                assertEquals(legacy.getTotalElements(), deferred.getTotalElements());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("전체 개수를 알고 있으면 그대로 사용")
+    void deferredPageWithKnownTotal() {
+        // when
+        Page<ApiRecommendPostsResponseDTO> page =
+                postRepository.findRecommendPostsDeferred(PageRequest.of(0, 10), "", "", "", 999L);
+
+        // then
+        assertEquals(10, page.getContent().size());
+        assertEquals(999L, page.getTotalElements());
+    }
+}
@@ -0,0 +1,152 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.api.entity.MethodType;
+import com.park.restapi.domain.board.dto.response.ApiRecommendPostsResponseDTO;
+import com.park.restapi.domain.board.entity.BoardType;
+import com.park.restapi.domain.board.entity.Post;
+import com.park.restapi.domain.board.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeLeaderboardTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostCounterStore postCounterStore;
+    @InjectMocks
+    private PostLikeLeaderboard postLikeLeaderboard;
+
+    @Test
+    @DisplayName("글 전체를 들고 있으면 좋아요순 페이지를 메모리에서 응답")
+    void findPageFromMemory() {
+        // given
+        load(List.of(row(3L, 5), row(2L, 5), row(1L, 1)), 3);
+
+        // when
+        Optional<Page<ApiRecommendPostsResponseDTO>> page = postLikeLeaderboard.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertTrue(page.isPresent());
+        assertEquals(List.of(3L, 2L, 1L), postIds(page.get()));
+        assertEquals(3, page.get().getTotalElements());
+    }
+
+    @Test
+    @DisplayName("좋아요가 커밋되면 순위 갱신")
+    void updateRank() throws NoSuchFieldException, IllegalAccessException {
+        // given
+        load(List.of(row(3L, 5), row(2L, 5), row(1L, 1)), 3);
+
+        // when
+        postLikeLeaderboard.updateAfterCommit(post(1L, 6));
+
+        // then
+        Page<ApiRecommendPostsResponseDTO> page = postLikeLeaderboard.findPage(PageRequest.of(0, 10)).orElseThrow();
+        assertEquals(List.of(1L, 3L, 2L), postIds(page));
+        assertEquals(6, page.getContent().get(0).likeCount());
+    }
+
+    @Test
+    @DisplayName("다시 읽는 도중 커밋된 좋아요는 새 목록에도 반영")
+    void keepUpdateDuringReload() {
+        // given
+        List<LeaderboardRow> rows = List.of(row(3L, 5), row(2L, 5), row(1L, 1));
+        load(rows, 3);
+        when(postRepository.findTopLiked(any(Pageable.class))).thenAnswer(invocation -> {
+            postLikeLeaderboard.updateAfterCommit(post(1L, 6));
+            return rows;
+        });
+
+        // when
+        postLikeLeaderboard.reload();
+
+        // then
+        Page<ApiRecommendPostsResponseDTO> page = postLikeLeaderboard.findPage(PageRequest.of(0, 10)).orElseThrow();
+        assertEquals(List.of(1L, 3L, 2L), postIds(page));
+    }
+
+    @Test
+    @DisplayName("기준선 아래로 내려간 글 때문에 페이지를 다 채우지 못하면 DB 로 넘김")
+    void fallbackBelowFloor() throws NoSuchFieldException, IllegalAccessException {
+        // given
+        List<LeaderboardRow> top = new ArrayList<>();
+        for (long id = PostLikeLeaderboard.CAPACITY; id > 0; id--) {
+            top.add(row(id, 10));
+        }
+        load(top, 1000);
+        Pageable lastServedPage = PageRequest.of(PostLikeLeaderboard.SERVED_RANKS / 10 - 1, 10);
+
+        // when
+        for (long id = 1; id <= 60; id++) {
+            postLikeLeaderboard.updateAfterCommit(post(id, 0));
+        }
+
+        // then
+        assertTrue(postLikeLeaderboard.findPage(lastServedPage).isEmpty());
+        assertTrue(postLikeLeaderboard.findPage(PageRequest.of(0, 10)).isPresent());
+    }
+
+    @Test
+    @DisplayName("메모리에서 응답하는 순위를 넘는 페이지는 DB 로 넘김")
+    void fallbackDeepPage() {
+        // given
+        load(List.of(row(1L, 1)), 1);
+
+        // when
+        Optional<Page<ApiRecommendPostsResponseDTO>> page =
+                postLikeLeaderboard.findPage(PageRequest.of(PostLikeLeaderboard.SERVED_RANKS / 10, 10));
+
+        // then
+        assertTrue(page.isEmpty());
+    }
+
+    private void load(List<LeaderboardRow> rows, long total) {
+        when(postRepository.findTopLiked(any(Pageable.class))).thenReturn(rows);
+        when(postRepository.count()).thenReturn(total);
+        postLikeLeaderboard.reload();
+    }
+
+    private List<Long> postIds(Page<ApiRecommendPostsResponseDTO> page) {
+        return page.getContent().stream().map(ApiRecommendPostsResponseDTO::postId).toList();
+    }
+
+    private LeaderboardRow row(Long postId, int likeCount) {
+        return new LeaderboardRow(postId, MethodType.GET, "제목" + postId, "닉네임", likeCount, 0);
+    }
+
+    private Post post(Long postId, int likeCount) throws NoSuchFieldException, IllegalAccessException {
+        Post post = Post.builder()
+                .boardType(BoardType.SHARE)
+                .methodType(MethodType.GET)
+                .title("제목" + postId)
+                .content("내용").build();
+        setField(post, "id", postId);
+        setField(post, "likeCount", likeCount);
+        return post;
+    }
+
+    private void setField(Post post, String name, Object value) throws NoSuchFieldException, IllegalAccessException {
+        Field field = Post.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(post, value);
+    }
+}
@@ -0,0 +1,39 @@
+package com.park.restapi.domain.board.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostPageTotalCacheTest {
+
+    private final PostPageTotalCache cache = new PostPageTotalCache();
+
+    @Test
+    @DisplayName("검색 조건이 null 이든 빈 문자열이든 같은 개수를 쓰고 새 글이 반영된다")
+    void addPostWithoutSearch() {
+        // given
+        cache.put(null, null, null, 10);
+        cache.put(null, " ", "trending", 7);
+
+        // when
+        cache.addPost();
+
+        // then
+        assertEquals(11L, cache.get("", "", ""));
+        assertEquals(8L, cache.get(null, null, "trending"));
+    }
+
+    @Test
+    @DisplayName("검색 개수는 새 글로 바뀌지 않는다")
+    void addPostKeepsSearchTotal() {
+        // given
+        cache.put("title", "api", null, 3);
+
+        // when
+        cache.addPost();
+
+        // then
+        assertEquals(3L, cache.get("title", "api", null));
+    }
+}
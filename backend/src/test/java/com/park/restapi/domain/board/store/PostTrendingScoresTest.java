@@ -0,0 +1,51 @@
+package com.park.restapi.domain.board.store;
+
+import com.park.restapi.domain.board.service.PostScoreService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostTrendingScoresTest {
+
+    @Mock
+    private PostScoreService postScoreService;
+    @InjectMocks
+    private PostTrendingScores postTrendingScores;
+    @Captor
+    private ArgumentCaptor<Map<Long, ScoreDelta>> deltas;
+
+    @Test
+    @DisplayName("좋아요를 누르고 나중에 취소하면 누른 시각의 점수만 빠져서 원래 점수로 돌아감")
+    void unlikeRemovesOriginalContribution() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.now().minusDays(2);
+        double score = TrendingScore.of(TrendingScore.CREATED_WEIGHT, createdDate.atZone(ZoneId.systemDefault()).toInstant());
+        LocalDateTime likedDate = LocalDateTime.now().minusHours(36);
+        postTrendingScores.recordLikeAfterCommit(1L, likedDate);
+        postTrendingScores.snapshot();
+
+        // when
+        postTrendingScores.recordUnlikeAfterCommit(1L, likedDate);
+        postTrendingScores.snapshot();
+
+        // then
+        verify(postScoreService, times(2)).mergeScores(deltas.capture());
+        double afterLike = deltas.getAllValues().get(0).get(1L).applyTo(score);
+        double afterUnlike = deltas.getAllValues().get(1).get(1L).applyTo(afterLike);
+        assertEquals(score, afterUnlike, 1e-9);
+    }
+}
@@ -0,0 +1,63 @@
+package com.park.restapi.domain.board.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendingScoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @Test
+    @DisplayName("12시간 전 좋아요 2개는 지금 좋아요 1개와 같은 점수")
+    void halfLife() {
+        // given
+        double old = TrendingScore.of(TrendingScore.LIKE_WEIGHT, NOW.minus(Duration.ofHours(12)));
+        double twoOld = TrendingScore.add(old, old);
+
+        // when
+        double recent = TrendingScore.of(TrendingScore.LIKE_WEIGHT, NOW);
+
+        // then
+        assertEquals(recent, twoOld, 1e-9);
+    }
+
+    @Test
+    @DisplayName("최근 활동이 많은 글이 오래전 활동이 많은 글보다 높은 점수")
+    void recentActivityRanksHigher() {
+        // given
+        double oldPost = TrendingScore.EMPTY;
+        for (int i = 0; i < 10; i++) {
+            oldPost = TrendingScore.add(oldPost, TrendingScore.of(TrendingScore.LIKE_WEIGHT, NOW.minus(Duration.ofDays(3))));
+        }
+
+        // when
+        double newPost = TrendingScore.add(
+                TrendingScore.of(TrendingScore.LIKE_WEIGHT, NOW),
+                TrendingScore.of(TrendingScore.VIEW_WEIGHT * 5, NOW));
+
+        // then
+        assertTrue(newPost > oldPost);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 점수에서 빼고, 점수보다 많이 빼는 취소는 점수를 비우지 않음")
+    void applyDelta() {
+        // given
+        double like = TrendingScore.of(TrendingScore.LIKE_WEIGHT, NOW);
+        double score = TrendingScore.add(like, like);
+
+        // when
+        double afterUnlike = new ScoreDelta(TrendingScore.EMPTY, like).applyTo(score);
+        double afterOverUnlike = new ScoreDelta(TrendingScore.EMPTY, score).plus(new ScoreDelta(TrendingScore.EMPTY, like)).applyTo(score);
+
+        // then
+        assertEquals(like, afterUnlike, 1e-9);
+        assertEquals(score, afterOverUnlike, 1e-9);
+    }
+}
@@ -0,0 +1,69 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.coupon.entity.CouponCampaignStockShard;
+import com.park.restapi.domain.coupon.store.CampaignRemaining;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class CouponCampaignStockShardRepositoryTest {
+
+    private static final Long CAMPAIGN_ID = 1L;
+    private static final Long OTHER_CAMPAIGN_ID = 2L;
+
+    @Autowired
+    private CouponCampaignStockShardRepository couponCampaignStockShardRepository;
+
+    @BeforeEach
+    void setUp() {
+        couponCampaignStockShardRepository.save(CouponCampaignStockShard.builder()
+                .campaignId(CAMPAIGN_ID)
+                .shardNo(0)
+                .remainingQuantity(1).build());
+        couponCampaignStockShardRepository.save(CouponCampaignStockShard.builder()
+                .campaignId(CAMPAIGN_ID)
+                .shardNo(1)
+                .remainingQuantity(0).build());
+        couponCampaignStockShardRepository.save(CouponCampaignStockShard.builder()
+                .campaignId(OTHER_CAMPAIGN_ID)
+                .shardNo(0)
+                .remainingQuantity(3).build());
+    }
+
+    @Test
+    @DisplayName("이벤트 재고 조각 차감은 비어 있으면 0 을 반환")
+    void decrease() {
+        // when
+        int first = couponCampaignStockShardRepository.decrease(CAMPAIGN_ID, 0);
+        int second = couponCampaignStockShardRepository.decrease(CAMPAIGN_ID, 0);
+
+        // then
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(0, second);
+        Assertions.assertTrue(couponCampaignStockShardRepository.findNonEmptyShardNos(CAMPAIGN_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이벤트별 남은 수량은 각 이벤트 조각의 합")
+    void sumRemaining() {
+        // when
+        List<CampaignRemaining> remaining = couponCampaignStockShardRepository.sumRemaining(
+                List.of(CAMPAIGN_ID, OTHER_CAMPAIGN_ID));
+
+        // then
+        Assertions.assertEquals(2, remaining.size());
+        Assertions.assertTrue(remaining.contains(new CampaignRemaining(CAMPAIGN_ID, 1L)));
+        Assertions.assertTrue(remaining.contains(new CampaignRemaining(OTHER_CAMPAIGN_ID, 3L)));
+    }
+}
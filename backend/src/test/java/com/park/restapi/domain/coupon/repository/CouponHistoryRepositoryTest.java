@@ -11,11 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 @DataJpaTest
 @TestPropertySource(locations = "classpath:application-test.yml")
@@ -27,7 +27,6 @@ class CouponHistoryRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
-    CouponHistory savedCouponHistory;
     Member savedMember;
 
     @BeforeEach
@@ -41,38 +40,17 @@ class CouponHistoryRepositoryTest {
     }
 
     @Test
-    @DisplayName("오늘 쿠폰 획득 기록 있음")
-    void findByCouponHistory() {
+    @DisplayName("같은 날 쿠폰 중복 획득 시 유니크 키 위반")
+    void duplicateCouponHistory() {
         // given
-        CouponHistory couponHistory = CouponHistory.builder()
-                .member(savedMember).build();
-        savedCouponHistory = couponHistoryRepository.save(couponHistory);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-
-        // when
-        CouponHistory searchCouponHistory = couponHistoryRepository.findByCouponHistory(startOfDay, endOfDay,
-                savedMember);
-
-        // then
-        Assertions.assertNotNull(searchCouponHistory);
-        Assertions.assertEquals(savedCouponHistory, searchCouponHistory);
-        Assertions.assertEquals(savedMember, searchCouponHistory.getMember());
-    }
-
-    @Test
-    @DisplayName("오늘 쿠폰 획득 기록 없음")
-    void findByCouponHistoryNo() {
-        // given
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-
-        // when
-        CouponHistory searchCouponHistory = couponHistoryRepository.findByCouponHistory(startOfDay, endOfDay,
-                savedMember);
-
-        // then
-        Assertions.assertNull(searchCouponHistory);
-
+        couponHistoryRepository.saveAndFlush(CouponHistory.builder()
+                .member(savedMember)
+                .couponDate(LocalDate.now()).build());
+
+        // when & then
+        Assertions.assertThrows(DataIntegrityViolationException.class, () ->
+                couponHistoryRepository.saveAndFlush(CouponHistory.builder()
+                        .member(savedMember)
+                        .couponDate(LocalDate.now()).build()));
     }
-}
\ No newline at end of file
+}
@@ -12,8 +12,6 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.Optional;
 
 @DataJpaTest
@@ -29,7 +27,7 @@ class CouponRepositoryTest {
     @BeforeEach
     void setup() {
         Coupon coupon = Coupon.builder()
-                .remainingQuantity(5)
+                .couponDate(LocalDate.now())
                 .totalQuantity(5).build();
 
         savedCoupon = couponRepository.save(coupon);
@@ -38,12 +36,8 @@ class CouponRepositoryTest {
     @Test
     @DisplayName("쿠폰 조회(쓰기용 쿼리)")
     void findByCouponForWrite() {
-        // given
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-
         // when
-        Optional<Coupon> byCouponForWrite = couponRepository.findByCouponForWrite(startOfDay, endOfDay);
+        Optional<Coupon> byCouponForWrite = couponRepository.findByCouponForWrite(LocalDate.now());
 
         // then
         Assertions.assertTrue(byCouponForWrite.isPresent());
@@ -52,18 +46,10 @@ class CouponRepositoryTest {
     }
 
     @Test
-    @DisplayName("쿠폰 조회(읽기용 쿼리)")
-    void findCouponForRead() {
-        // given
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-
-        // when
-        Optional<Coupon> byCouponForWrite = couponRepository.findCouponForRead(startOfDay, endOfDay);
-
+    @DisplayName("발행일로 쿠폰 발행 여부 조회")
+    void existsByCouponDate() {
         // then
-        Assertions.assertTrue(byCouponForWrite.isPresent());
-        Coupon coupon = byCouponForWrite.get();
-        Assertions.assertEquals(savedCoupon, coupon);
+        Assertions.assertTrue(couponRepository.existsByCouponDate(LocalDate.now()));
+        Assertions.assertFalse(couponRepository.existsByCouponDate(LocalDate.now().plusDays(1)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.park.restapi.domain.coupon.repository;
+
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.coupon.entity.CouponStockShard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class CouponStockShardRepositoryTest {
+
+    @Autowired
+    private CouponStockShardRepository couponStockShardRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        couponStockShardRepository.save(CouponStockShard.builder()
+                .couponDate(today)
+                .shardNo(0)
+                .remainingQuantity(1).build());
+        couponStockShardRepository.save(CouponStockShard.builder()
+                .couponDate(today)
+                .shardNo(1)
+                .remainingQuantity(0).build());
+        couponStockShardRepository.save(CouponStockShard.builder()
+                .couponDate(today)
+                .shardNo(2)
+                .remainingQuantity(3).build());
+    }
+
+    @Test
+    @DisplayName("재고 조각 차감은 비어 있으면 0 을 반환")
+    void decrease() {
+        // when
+        int first = couponStockShardRepository.decrease(today, 0);
+        int second = couponStockShardRepository.decrease(today, 0);
+
+        // then
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(0, second);
+        Assertions.assertEquals(3, couponStockShardRepository.sumRemaining(today));
+    }
+
+    @Test
+    @DisplayName("재고가 남은 조각 번호 조회")
+    void findNonEmptyShardNos() {
+        // when
+        List<Integer> shardNos = couponStockShardRepository.findNonEmptyShardNos(today);
+
+        // then
+        Assertions.assertEquals(2, shardNos.size());
+        Assertions.assertTrue(shardNos.containsAll(List.of(0, 2)));
+    }
+
+    @Test
+    @DisplayName("남은 쿠폰 수는 모든 조각의 합, 발행되지 않은 날은 0")
+    void sumRemaining() {
+        // then
+        Assertions.assertEquals(4, couponStockShardRepository.sumRemaining(today));
+        Assertions.assertEquals(0, couponStockShardRepository.sumRemaining(today.plusDays(1)));
+    }
+}
@@ -0,0 +1,143 @@
+package com.park.restapi.domain.coupon.service;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import com.park.restapi.domain.coupon.entity.CouponCampaignHistory;
+import com.park.restapi.domain.coupon.repository.CouponCampaignHistoryRepository;
+import com.park.restapi.domain.coupon.repository.CouponCampaignRepository;
+import com.park.restapi.domain.coupon.repository.CouponCampaignStockShardRepository;
+import com.park.restapi.domain.coupon.service.impl.CouponCampaignServiceImpl;
+import com.park.restapi.domain.coupon.store.CouponCampaignStore;
+import com.park.restapi.domain.exception.exception.CouponException;
+import com.park.restapi.domain.exception.info.CouponExceptionInfo;
+import com.park.restapi.domain.member.entity.Member;
+import com.park.restapi.domain.member.repository.MemberRepository;
+import com.park.restapi.util.jwt.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCampaignServiceImplTest {
+
+    private static final Long CAMPAIGN_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Mock
+    private CouponCampaignRepository couponCampaignRepository;
+    @Mock
+    private CouponCampaignStockShardRepository couponCampaignStockShardRepository;
+    @Mock
+    private CouponCampaignHistoryRepository couponCampaignHistoryRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private JwtService jwtService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private CouponCampaignStore couponCampaignStore = new CouponCampaignStore();
+    @InjectMocks
+    private CouponCampaignServiceImpl couponCampaignService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        CouponCampaign campaign = CouponCampaign.builder()
+                .name("테스트 이벤트")
+                .startAt(LocalDateTime.now().minusMinutes(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .totalQuantity(5)
+                .perMemberLimit(1)
+                .tokenAmount(3).build();
+        setId(campaign, CAMPAIGN_ID);
+        couponCampaignStore.sync(List.of(campaign), Map.of(CAMPAIGN_ID, 5));
+
+        member = Member.builder()
+                .email("test@naver.com")
+                .nickname("test")
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build();
+        setId(member, MEMBER_ID);
+
+        when(jwtService.getCurrentUserId()).thenReturn(MEMBER_ID);
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+    }
+
+    @Test
+    @DisplayName("쿠폰 이벤트 획득 성공 시 이벤트의 토큰 수만큼 지급")
+    void claimCampaign() {
+        // given
+        when(couponCampaignHistoryRepository.countClaims(CAMPAIGN_ID, MEMBER_ID)).thenReturn(0);
+        when(couponCampaignStockShardRepository.decrease(eq(CAMPAIGN_ID), anyInt())).thenReturn(1);
+
+        // when
+        int remaining = couponCampaignService.claimCampaign(CAMPAIGN_ID);
+
+        // then
+        assertEquals(4, remaining);
+        assertEquals(13, member.getToken());
+        verify(couponCampaignHistoryRepository).saveAndFlush(any(CouponCampaignHistory.class));
+    }
+
+    @Test
+    @DisplayName("유저당 획득 횟수를 넘으면 DB 에 기록하지 않고 실패")
+    void claimCampaignLimitExceeded() {
+        // given
+        when(couponCampaignHistoryRepository.countClaims(CAMPAIGN_ID, MEMBER_ID)).thenReturn(1);
+
+        // when
+        CouponException exception = assertThrows(CouponException.class,
+                () -> couponCampaignService.claimCampaign(CAMPAIGN_ID));
+
+        // then
+        assertEquals(CouponExceptionInfo.CAMPAIGN_LIMIT_EXCEEDED, exception.getException());
+        verify(couponCampaignHistoryRepository, never()).saveAndFlush(any());
+        verify(couponCampaignStockShardRepository, never()).decrease(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("DB 에서 매진이 확인되면 이후 요청은 메모리에서 바로 실패")
+    void claimCampaignSoldOutInDatabase() {
+        // given
+        when(couponCampaignHistoryRepository.countClaims(CAMPAIGN_ID, MEMBER_ID)).thenReturn(0);
+        when(couponCampaignStockShardRepository.decrease(eq(CAMPAIGN_ID), anyInt())).thenReturn(0);
+        when(couponCampaignStockShardRepository.findNonEmptyShardNos(CAMPAIGN_ID)).thenReturn(List.of());
+
+        // when
+        assertThrows(CouponException.class, () -> couponCampaignService.claimCampaign(CAMPAIGN_ID));
+        CouponException exception = assertThrows(CouponException.class,
+                () -> couponCampaignService.claimCampaign(CAMPAIGN_ID));
+
+        // then
+        assertEquals(CouponExceptionInfo.NOT_EXIST_COUPON, exception.getException());
+        verify(couponCampaignStockShardRepository, times(1)).decrease(anyLong(), anyInt());
+    }
+
+    private void setId(Object entity, Long id) throws NoSuchFieldException, IllegalAccessException {
+        Field idField = entity.getClass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(entity, id);
+    }
+}
@@ -0,0 +1,160 @@
+package com.park.restapi.domain.coupon.service;
+
+import com.park.restapi.domain.coupon.dto.response.CouponClaimResponseDTO;
+import com.park.restapi.domain.coupon.service.impl.CouponClaimServiceImpl;
+import com.park.restapi.domain.coupon.store.CouponClaimStatus;
+import com.park.restapi.domain.coupon.store.CouponClaimTicket;
+import com.park.restapi.domain.coupon.store.CouponStockSnapshot;
+import com.park.restapi.domain.exception.exception.CouponException;
+import com.park.restapi.domain.exception.exception.MemberException;
+import com.park.restapi.domain.exception.info.CouponExceptionInfo;
+import com.park.restapi.domain.exception.info.MemberExceptionInfo;
+import com.park.restapi.util.jwt.JwtService;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponClaimServiceImplTest {
+
+    @Mock
+    private CouponService couponService;
+    @Mock
+    private CouponStockSnapshot couponStockSnapshot;
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+    @Mock
+    private MeterRegistry meterRegistry;
+    @InjectMocks
+    private CouponClaimServiceImpl couponClaimService;
+
+    @Test
+    @DisplayName("같은 유저가 여러 번 요청하면 같은 번호표 반환")
+    void requestClaimTwice() {
+        // given
+        when(jwtService.getCurrentUserId()).thenReturn(1L);
+        when(couponStockSnapshot.getRemaining(LocalDate.now())).thenReturn(10);
+
+        // when
+        CouponClaimResponseDTO first = couponClaimService.requestClaim();
+        CouponClaimResponseDTO second = couponClaimService.requestClaim();
+
+        // then
+        assertEquals(first.ticket(), second.ticket());
+        assertEquals(CouponClaimStatus.WAITING, second.status());
+        assertEquals(0L, second.ahead());
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 이미 소진됐으면 대기열에 넣지 않고 바로 소진 처리")
+    void requestClaimWhenSoldOut() {
+        // given
+        when(jwtService.getCurrentUserId()).thenReturn(1L);
+        when(couponStockSnapshot.getRemaining(LocalDate.now())).thenReturn(0);
+
+        // when
+        CouponClaimResponseDTO claim = couponClaimService.requestClaim();
+
+        // then
+        assertEquals(CouponClaimStatus.SOLD_OUT, claim.status());
+    }
+
+    @Test
+    @DisplayName("도착 순서대로 처리하고 결과를 user 토픽으로 전송")
+    void processInOrder() throws Exception {
+        // given
+        when(jwtService.getCurrentUserId()).thenReturn(1L, 2L, 1L, 2L);
+        when(couponStockSnapshot.getRemaining(LocalDate.now())).thenReturn(10);
+        doThrow(new MemberException(MemberExceptionInfo.ALREADY_GET_COUPON, "이미 획득"))
+                .when(couponService).acquisitionCoupon(2L, LocalDate.now());
+        couponClaimService.requestClaim();
+        couponClaimService.requestClaim();
+
+        // when
+        processNext();
+        processNext();
+
+        // then
+        verify(couponService).acquisitionCoupon(1L, LocalDate.now());
+        assertEquals(CouponClaimStatus.CLAIMED, couponClaimService.getClaim().status());
+        assertEquals(CouponClaimStatus.ALREADY_CLAIMED, couponClaimService.getClaim().status());
+        verify(webSocketPublisher).publish(eq(WebSocketTopic.user(1L)), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("재고가 소진되면 남은 대기 요청을 한 번에 거절")
+    void rejectWaitingWhenSoldOut() throws Exception {
+        // given
+        when(jwtService.getCurrentUserId()).thenReturn(1L, 2L, 3L, 3L);
+        when(couponStockSnapshot.getRemaining(LocalDate.now())).thenReturn(10);
+        doThrow(new CouponException(CouponExceptionInfo.NOT_EXIST_COUPON, "쿠폰 품절"))
+                .when(couponService).acquisitionCoupon(1L, LocalDate.now());
+        couponClaimService.requestClaim();
+        couponClaimService.requestClaim();
+        couponClaimService.requestClaim();
+
+        // when
+        processNext();
+
+        // then
+        verify(couponService, times(1)).acquisitionCoupon(anyLong(), any());
+        assertEquals(CouponClaimStatus.SOLD_OUT, couponClaimService.getClaim().status());
+        verify(couponStockSnapshot).set(LocalDate.now(), 0);
+        verify(webSocketPublisher, times(1)).publish(eq(WebSocketTopic.COUPON), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀔 때까지 처리되지 못한 요청은 다음 날 쿠폰을 차감하지 않고 만료")
+    void expireStaleTicket() throws Exception {
+        // given
+        when(jwtService.getCurrentUserId()).thenReturn(1L);
+        CouponClaimTicket ticket = new CouponClaimTicket(1L, 1L, LocalDate.now().minusDays(1));
+        enqueue(ticket);
+
+        // when
+        processNext();
+
+        // then
+        verify(couponService, never()).acquisitionCoupon(anyLong(), any());
+        assertEquals(CouponClaimStatus.EXPIRED, couponClaimService.getClaim().status());
+        verify(webSocketPublisher).publish(eq(WebSocketTopic.user(1L)), anyString(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void enqueue(CouponClaimTicket ticket) throws Exception {
+        Field waiting = CouponClaimServiceImpl.class.getDeclaredField("waiting");
+        waiting.setAccessible(true);
+        ((BlockingQueue<CouponClaimTicket>) waiting.get(couponClaimService)).add(ticket);
+
+        Field tickets = CouponClaimServiceImpl.class.getDeclaredField("ticketsByMember");
+        tickets.setAccessible(true);
+        ((Map<Long, CouponClaimTicket>) tickets.get(couponClaimService)).put(ticket.getMemberId(), ticket);
+    }
+
+    private void processNext() throws Exception {
+        Method method = CouponClaimServiceImpl.class.getDeclaredMethod("processNext");
+        method.setAccessible(true);
+        method.invoke(couponClaimService);
+    }
+}
@@ -2,28 +2,39 @@ package com.park.restapi.domain.coupon.service;
 
 import com.park.restapi.domain.coupon.dto.request.UpdateCouponQuantityRequestDTO;
 import com.park.restapi.domain.coupon.entity.Coupon;
+import com.park.restapi.domain.coupon.entity.CouponStockShard;
 import com.park.restapi.domain.coupon.repository.CouponHistoryRepository;
 import com.park.restapi.domain.coupon.repository.CouponRepository;
+import com.park.restapi.domain.coupon.repository.CouponStockShardRepository;
 import com.park.restapi.domain.coupon.service.impl.CouponServiceImpl;
+import com.park.restapi.domain.coupon.store.CouponStockSnapshot;
 import com.park.restapi.domain.exception.exception.CouponException;
+import com.park.restapi.domain.member.entity.Member;
 import com.park.restapi.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +46,12 @@ class CouponServiceImplTest {
     private CouponHistoryRepository couponHistoryRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private CouponStockSnapshot couponStockSnapshot;
+    @Mock
+    private CouponStockShardRepository couponStockShardRepository;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private CouponServiceImpl couponService;
@@ -44,8 +61,7 @@ class CouponServiceImplTest {
     @BeforeEach
     void setUp() {
         coupon = Coupon.builder()
-                .totalQuantity(5)
-                .remainingQuantity(5).build();
+                .totalQuantity(5).build();
     }
 
     @Test
@@ -55,9 +71,7 @@ class CouponServiceImplTest {
     @Test
     void 남은_선착순_쿠폰_조회() {
         // given
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        Mockito.when(couponRepository.findCouponForRead(startOfDay, endOfDay)).thenReturn(Optional.of(coupon));
+        Mockito.when(couponStockShardRepository.sumRemaining(LocalDate.now())).thenReturn(5L);
 
         // when
         int coupons = couponService.getCoupons();
@@ -67,15 +81,31 @@ class CouponServiceImplTest {
     }
 
     @Test
-    void 남은_선착순_쿠폰_데이터_없음_예외발생() {
+    @DisplayName("스냅샷이 있으면 DB 조회 없이 남은 쿠폰 반환")
+    void 남은_선착순_쿠폰_스냅샷_조회() {
         // given
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
+        Mockito.when(couponStockSnapshot.getRemaining(LocalDate.now())).thenReturn(3);
 
-        Mockito.when(couponRepository.findCouponForRead(startOfDay, endOfDay)).thenReturn(Optional.empty());
+        // when
+        int coupons = couponService.getCoupons();
 
-        // when & then
-        assertThrows(CouponException.class, () -> couponService.getCoupons());
+        // then
+        Assertions.assertEquals(3, coupons);
+        verify(couponStockShardRepository, never()).sumRemaining(any());
+    }
+
+    @Test
+    @DisplayName("오늘 발행된 쿠폰이 없으면 남은 쿠폰 0")
+    void 남은_선착순_쿠폰_데이터_없음() {
+        // given
+        Mockito.when(couponStockShardRepository.sumRemaining(LocalDate.now())).thenReturn(0L);
+
+        // when
+        int coupons = couponService.getCoupons();
+
+        // then
+        Assertions.assertEquals(0, coupons);
+        verify(couponStockSnapshot).set(LocalDate.now(), 0);
     }
 
     @Test
@@ -83,11 +113,9 @@ class CouponServiceImplTest {
     void immediatelyCouponExistCoupon() {
         // given
         UpdateCouponQuantityRequestDTO requestDTO = new UpdateCouponQuantityRequestDTO(20);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
 
         // 쿠폰이 있는 경우
-        when(couponRepository.findByCouponForWrite(startOfDay, endOfDay)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findByCouponForWrite(LocalDate.now())).thenReturn(Optional.of(coupon));
 
         // when
         int remainingQuantity = couponService.updateCouponQuantity(requestDTO);
@@ -101,11 +129,9 @@ class CouponServiceImplTest {
     void immediatelyCouponNotExistCoupon() {
         // given
         UpdateCouponQuantityRequestDTO requestDTO = new UpdateCouponQuantityRequestDTO(20);
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
 
         // 쿠폰이 없는 경우
-        when(couponRepository.findByCouponForWrite(startOfDay, endOfDay)).thenReturn(Optional.empty());
+        when(couponRepository.findByCouponForWrite(LocalDate.now())).thenReturn(Optional.empty());
 
         // when
         int remainingQuantity = couponService.updateCouponQuantity(requestDTO);
@@ -114,4 +140,73 @@ class CouponServiceImplTest {
         assertEquals(20, remainingQuantity);
         verify(couponRepository, times(1)).save(any(Coupon.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("쿠폰 수량을 재고 조각에 고르게 나눠 담는다")
+    void immediatelyCouponSplitShards() {
+        // given
+        UpdateCouponQuantityRequestDTO requestDTO = new UpdateCouponQuantityRequestDTO(20);
+        when(couponRepository.findByCouponForWrite(LocalDate.now())).thenReturn(Optional.empty());
+        when(couponStockShardRepository.findByCouponDateOrderByShardNoAsc(LocalDate.now())).thenReturn(List.of());
+
+        // when
+        couponService.updateCouponQuantity(requestDTO);
+
+        // then
+        ArgumentCaptor<CouponStockShard> captor = ArgumentCaptor.forClass(CouponStockShard.class);
+        verify(couponStockShardRepository, times(8)).save(captor.capture());
+        List<Integer> quantities = captor.getAllValues().stream().map(CouponStockShard::getRemainingQuantity).toList();
+        assertEquals(List.of(3, 3, 3, 3, 2, 2, 2, 2), quantities);
+    }
+
+    @Test
+    @DisplayName("자기 재고 조각이 비어 있으면 다른 조각에서 쿠폰 획득")
+    void acquisitionCouponStealsFromOtherShard() throws NoSuchFieldException, IllegalAccessException {
+        // given
+        Member member = Member.builder()
+                .email("test@naver.com")
+                .nickname("test")
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build();
+        Field idField = member.getClass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(member, 1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        LocalDate today = LocalDate.now();
+        when(couponStockShardRepository.findNonEmptyShardNos(today)).thenReturn(List.of(5));
+        when(couponStockShardRepository.decrease(eq(today), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Integer.class) == 5 ? 1 : 0);
+
+        // when
+        couponService.acquisitionCoupon(1L, today);
+
+        // then
+        assertEquals(11, member.getToken());
+        verify(couponStockShardRepository).decrease(today, 5);
+        verify(couponStockShardRepository, never()).sumRemaining(any());
+    }
+
+    @Test
+    @DisplayName("모든 재고 조각이 비어 있으면 쿠폰 품절")
+    void acquisitionCouponSoldOut() throws NoSuchFieldException, IllegalAccessException {
+        // given
+        Member member = Member.builder()
+                .email("test@naver.com")
+                .nickname("test")
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build();
+        Field idField = member.getClass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(member, 1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        LocalDate today = LocalDate.now();
+        when(couponStockShardRepository.decrease(eq(today), anyInt())).thenReturn(0);
+        when(couponStockShardRepository.findNonEmptyShardNos(today)).thenReturn(List.of());
+
+        // when & then
+        assertThrows(CouponException.class, () -> couponService.acquisitionCoupon(1L, today));
+        assertEquals(10, member.getToken());
+    }
+}
@@ -0,0 +1,95 @@
+package com.park.restapi.domain.coupon.store;
+
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CampaignStockTest {
+
+    private CampaignStock stock;
+
+    @BeforeEach
+    void setUp() {
+        CouponCampaign campaign = CouponCampaign.builder()
+                .name("테스트 이벤트")
+                .startAt(LocalDateTime.now().minusMinutes(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .totalQuantity(100)
+                .perMemberLimit(2)
+                .tokenAmount(3).build();
+        stock = new CampaignStock(campaign, 100);
+    }
+
+    @Test
+    @DisplayName("동시에 선점해도 재고 수 만큼만 성공")
+    void tryAcquireConcurrently() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1000);
+        AtomicInteger acquired = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (stock.tryAcquire()) {
+                    acquired.incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(100, acquired.get());
+        assertEquals(0, stock.getRemaining());
+        assertTrue(stock.isSoldOut());
+    }
+
+    @Test
+    @DisplayName("DB 에서 매진이 확인되면 롤백된 재고를 돌려받지 않는다")
+    void releaseAfterSoldOut() {
+        // given
+        stock.tryAcquire();
+
+        // when
+        stock.markSoldOut();
+        stock.release();
+
+        // then
+        assertEquals(0, stock.getRemaining());
+    }
+
+    @Test
+    @DisplayName("획득 횟수는 처음 한 번만 DB 에서 읽고 이후에는 메모리 값 사용")
+    void claimedCountLoadedOnce() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        int first = stock.claimedCount(7L, memberId -> {
+            loads.incrementAndGet();
+            return 1;
+        });
+        stock.recordClaim(7L, 2);
+        int second = stock.claimedCount(7L, memberId -> {
+            loads.incrementAndGet();
+            return 0;
+        });
+
+        // then
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(1, loads.get());
+    }
+}
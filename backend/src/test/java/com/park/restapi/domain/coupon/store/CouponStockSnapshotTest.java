@@ -0,0 +1,116 @@
+package com.park.restapi.domain.coupon.store;
+
+import com.park.restapi.domain.coupon.repository.CouponRepository;
+import com.park.restapi.util.websocket.WebSocketPublisher;
+import com.park.restapi.util.websocket.WebSocketTopic;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockSnapshotTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private WebSocketPublisher webSocketPublisher;
+    @InjectMocks
+    private CouponStockSnapshot couponStockSnapshot;
+
+    private final LocalDate today = LocalDate.of(2024, 4, 1);
+
+    @Test
+    @DisplayName("다른 날짜의 스냅샷은 사용하지 않는다")
+    void otherDate() {
+        // given
+        couponStockSnapshot.set(today.minusDays(1), 10);
+
+        // then
+        assertNull(couponStockSnapshot.getRemaining(today));
+    }
+
+    @Test
+    @DisplayName("준비해 둔 다음 날 재고는 날짜가 바뀐 뒤 첫 조회에서 사용")
+    void preparedStockPromoted() {
+        // given
+        couponStockSnapshot.set(today, 3);
+        couponStockSnapshot.prepare(today.plusDays(1), 100);
+
+        // then
+        assertEquals(3, couponStockSnapshot.getRemaining(today));
+        assertEquals(100, couponStockSnapshot.getRemaining(today.plusDays(1)));
+        assertNull(couponStockSnapshot.getRemaining(today));
+    }
+
+    @Test
+    @DisplayName("획득 반영은 남은 수를 1씩 줄이고 0 아래로 내려가지 않는다")
+    void decreaseStopsAtZero() {
+        // given
+        couponStockSnapshot.set(today, 1);
+
+        // when
+        couponStockSnapshot.decrease(today);
+        couponStockSnapshot.decrease(today);
+
+        // then
+        assertEquals(0, couponStockSnapshot.getRemaining(today));
+    }
+
+    @Test
+    @DisplayName("다른 날짜의 획득은 스냅샷에 반영하지 않는다")
+    void decreaseOtherDate() {
+        // given
+        couponStockSnapshot.set(today, 10);
+
+        // when
+        couponStockSnapshot.decrease(today.minusDays(1));
+
+        // then
+        assertEquals(10, couponStockSnapshot.getRemaining(today));
+    }
+
+    @Test
+    @DisplayName("여러 번 바뀌어도 한 번만 전송")
+    void flushCoalesces() {
+        // given
+        couponStockSnapshot.set(today, 10);
+        couponStockSnapshot.decrease(today);
+        couponStockSnapshot.decrease(today);
+
+        // when
+        couponStockSnapshot.flush();
+        couponStockSnapshot.flush();
+
+        // then
+        verify(webSocketPublisher, times(1)).publishLocal(eq(WebSocketTopic.COUPON), anyString(),
+                eq(Map.of("date", today.toString(), "remaining", 8)));
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 전송하지 않는다")
+    void flushWithoutChange() {
+        // given
+        couponStockSnapshot.set(today, 10);
+        couponStockSnapshot.flush();
+
+        // when
+        couponStockSnapshot.set(today, 10);
+        couponStockSnapshot.flush();
+
+        // then
+        verify(webSocketPublisher, times(1)).publishLocal(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,152 @@
+package com.park.restapi.domain.member.repository;
+
+import com.park.restapi.domain.api.entity.ApiUsageRollup;
+import com.park.restapi.domain.api.repository.ApiUsageRollupRepository;
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.coupon.entity.CouponCampaign;
+import com.park.restapi.domain.coupon.entity.CouponCampaignHistory;
+import com.park.restapi.domain.coupon.entity.CouponHistory;
+import com.park.restapi.domain.coupon.repository.CouponCampaignHistoryRepository;
+import com.park.restapi.domain.coupon.repository.CouponCampaignRepository;
+import com.park.restapi.domain.coupon.repository.CouponHistoryRepository;
+import com.park.restapi.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CouponHistoryRepository couponHistoryRepository;
+    @Autowired
+    private ApiUsageRollupRepository apiUsageRollupRepository;
+    @Autowired
+    private CouponCampaignRepository couponCampaignRepository;
+    @Autowired
+    private CouponCampaignHistoryRepository couponCampaignHistoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        savedMember = memberRepository.save(Member.builder()
+                .email("test@naver.com")
+                .nickname("test")
+                .password("test")
+                .loginLastDate(LocalDateTime.now()).build());
+    }
+
+    @Test
+    @DisplayName("누적 토큰 수 증가는 다른 컬럼 변경에 덮어써지지 않음")
+    void increaseTokenTotals() {
+        // given
+        savedMember.increasedToken();
+
+        // when
+        memberRepository.increaseUsedTokens(savedMember.getId(), 3);
+        memberRepository.increaseAcquiredTokens(savedMember.getId(), 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Member member = memberRepository.findById(savedMember.getId()).orElseThrow();
+        Assertions.assertEquals(3, member.getTotalUsedTokens());
+        Assertions.assertEquals(2, member.getTotalAcquiredTokens());
+        Assertions.assertEquals(11, member.getToken().intValue());
+    }
+
+    @Test
+    @DisplayName("누적 토큰 수를 사용 집계, 쿠폰 획득 이력으로 다시 계산")
+    void reconcileTokenTotals() {
+        // given
+        apiUsageRollupRepository.save(ApiUsageRollup.builder()
+                .memberId(savedMember.getId())
+                .successCount(5)
+                .failureCount(1)
+                .lastRequestDate(LocalDateTime.now()).build());
+        couponHistoryRepository.save(CouponHistory.builder()
+                .member(savedMember)
+                .couponDate(LocalDate.now()).build());
+        couponHistoryRepository.save(CouponHistory.builder()
+                .member(savedMember)
+                .couponDate(LocalDate.now().minusDays(1)).build());
+        memberRepository.increaseUsedTokens(savedMember.getId(), 100);
+        entityManager.flush();
+
+        // when
+        int updated = memberRepository.reconcileTokenTotals(savedMember.getId(), savedMember.getId() + 1);
+        entityManager.clear();
+
+        // then
+        Member member = memberRepository.findById(savedMember.getId()).orElseThrow();
+        Assertions.assertEquals(1, updated);
+        Assertions.assertEquals(5, member.getTotalUsedTokens());
+        Assertions.assertEquals(2, member.getTotalAcquiredTokens());
+    }
+
+    @Test
+    @DisplayName("데일리 토큰 초기화는 같은 날 다시 실행해도 한 번만 적용")
+    void resetTokensOncePerDay() {
+        // given
+        LocalDate today = LocalDate.now();
+        savedMember.useToken();
+        entityManager.flush();
+        memberRepository.resetTokens(savedMember.getId(), savedMember.getId() + 1, today, Member.DEFAULT_TOKEN);
+        entityManager.clear();
+        Member member = memberRepository.findById(savedMember.getId()).orElseThrow();
+        member.useToken();
+        entityManager.flush();
+
+        // when
+        int updated = memberRepository.resetTokens(savedMember.getId(), savedMember.getId() + 1, today, Member.DEFAULT_TOKEN);
+        entityManager.clear();
+
+        // then
+        Assertions.assertEquals(0, updated);
+        Assertions.assertEquals(9, memberRepository.findById(savedMember.getId()).orElseThrow().getToken().intValue());
+    }
+
+    @Test
+    @DisplayName("캠페인 쿠폰을 획득한 유저도 탈퇴 삭제 시 획득 이력과 함께 삭제")
+    void deleteMemberWithCampaignHistory() {
+        // given
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.builder()
+                .name("캠페인")
+                .startAt(LocalDateTime.now().minusDays(1))
+                .endAt(LocalDateTime.now().plusDays(1))
+                .totalQuantity(10)
+                .perMemberLimit(1)
+                .tokenAmount(3).build());
+        couponCampaignHistoryRepository.save(CouponCampaignHistory.builder()
+                .campaign(campaign)
+                .member(savedMember)
+                .claimSeq(1)
+                .tokenAmount(3).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        memberRepository.delete(memberRepository.findById(savedMember.getId()).orElseThrow());
+        entityManager.flush();
+
+        // then
+        Assertions.assertTrue(memberRepository.findById(savedMember.getId()).isEmpty());
+        Assertions.assertEquals(0, couponCampaignHistoryRepository.count());
+    }
+}
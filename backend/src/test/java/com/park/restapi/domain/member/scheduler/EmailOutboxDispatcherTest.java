@@ -0,0 +1,123 @@
+package com.park.restapi.domain.member.scheduler;
+
+import com.park.restapi.domain.member.entity.EmailOutbox;
+import com.park.restapi.domain.member.service.EmailOutboxService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+    @Mock
+    private JavaMailSender emailSender;
+    @Mock
+    private Executor emailExecutor;
+    @InjectMocks
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    private final List<MimeMessage> createdMessages = new ArrayList<>();
+    private List<EmailOutbox> chunk;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        chunk = List.of(createOutbox(1L, "first@naver.com"), createOutbox(2L, "second@naver.com"));
+
+        when(emailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = new MimeMessage((Session) null);
+            createdMessages.add(message);
+            return message;
+        });
+    }
+
+    @Test
+    @DisplayName("묶음 발송 성공 시 한 번의 send 호출로 전부 발송 완료 처리")
+    void sendChunkSuccess() {
+        // when
+        emailOutboxDispatcher.sendChunk(chunk);
+
+        // then
+        verify(emailSender, times(1)).send(any(MimeMessage[].class));
+        Collection<Long> sentIds = captureSentIds();
+        assertEquals(2, sentIds.size());
+        assertTrue(sentIds.containsAll(List.of(1L, 2L)));
+        verify(emailOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    @DisplayName("일부 메일만 실패하면 실패한 메일만 재시도 예약")
+    void sendChunkPartialFailure() {
+        // given
+        doAnswer(invocation -> {
+            throw new MailSendException(Map.of(createdMessages.get(0), new MessagingException("550 mailbox unavailable")));
+        }).when(emailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailOutboxDispatcher.sendChunk(chunk);
+
+        // then
+        verify(emailOutboxService).markFailed(eq(1L), anyString());
+        Collection<Long> sentIds = captureSentIds();
+        assertEquals(List.of(2L), new ArrayList<>(sentIds));
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 시 묶음 전체 재시도 예약")
+    void sendChunkConnectionFailure() {
+        // given
+        doThrow(new MailSendException("Mail server connection failed"))
+                .when(emailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailOutboxDispatcher.sendChunk(chunk);
+
+        // then
+        verify(emailOutboxService).markFailed(eq(1L), anyString());
+        verify(emailOutboxService).markFailed(eq(2L), anyString());
+        assertTrue(captureSentIds().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Long> captureSentIds() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(emailOutboxService).markSent(captor.capture());
+        return captor.getValue();
+    }
+
+    private EmailOutbox createOutbox(Long id, String recipient) throws NoSuchFieldException, IllegalAccessException {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("테스트 제목")
+                .content("<p>테스트</p>").build();
+        Field idField = outbox.getClass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(outbox, id);
+        return outbox;
+    }
+}
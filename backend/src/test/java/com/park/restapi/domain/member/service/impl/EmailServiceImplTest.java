@@ -1,10 +1,9 @@
 package com.park.restapi.domain.member.service.impl;
 
 import com.park.restapi.domain.exception.exception.EmailException;
-import com.park.restapi.domain.member.entity.EmailConfirm;
-import com.park.restapi.domain.member.repository.EmailConfirmRepository;
 import com.park.restapi.domain.member.repository.MemberRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.park.restapi.domain.member.store.VerificationCodeStatus;
+import com.park.restapi.domain.member.store.VerificationCodeStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,36 +13,22 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.javamail.JavaMailSender;
 
-import java.lang.reflect.Field;
-import java.time.LocalDateTime;
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceImplTest {
 
+    private static final String EMAIL = "test@naver.com";
+
     @Mock
     private JavaMailSender javaMailSender;
     @Mock
-    private EmailConfirmRepository emailConfirmRepository;
+    private VerificationCodeStore verificationCodeStore;
     @Mock
     private MemberRepository memberRepository;
     @InjectMocks
     private EmailServiceImpl emailService;
 
-    EmailConfirm emailConfirm;
-
-    @BeforeEach
-    void setUp() throws NoSuchFieldException, IllegalAccessException {
-        emailConfirm = EmailConfirm.builder()
-                .certificationNumber("123456")
-                .certificationStatus(false).build();
-        Field createDate = emailConfirm.getClass().getDeclaredField("createDate");
-        createDate.setAccessible(true);
-        createDate.set(emailConfirm, LocalDateTime.now());
-    }
-
     @Test
     @DisplayName("인증번호 생성")
     void createKey() {
@@ -66,42 +51,45 @@ class EmailServiceImplTest {
     @Test
     void 인증번호_사용_성공() {
         // given
-        String code = "123456";
-        Mockito.when(emailConfirmRepository.checkCode(code)).thenReturn(Optional.ofNullable(emailConfirm));
-
-        // when
-        emailService.checkCertificationCode(code);
+        Mockito.when(verificationCodeStore.verify(EMAIL, "123456")).thenReturn(VerificationCodeStatus.VERIFIED);
 
         // then
-        assertTrue(emailConfirm.getCertificationStatus());
+        assertDoesNotThrow(() -> emailService.checkCertificationCode(EMAIL, "123456"));
     }
 
     @Test
     void 인증번호_불일치() {
         // given
-        String code = "654321";
-        Mockito.when(emailConfirmRepository.checkCode(code)).thenReturn(Optional.empty());
+        Mockito.when(verificationCodeStore.verify(EMAIL, "654321")).thenReturn(VerificationCodeStatus.NOT_FOUND);
 
         // then
         EmailException emailException = assertThrows(EmailException.class, () -> {
-            emailService.checkCertificationCode(code);
+            emailService.checkCertificationCode(EMAIL, "654321");
         });
         assertEquals("인증번호가 일치하지 않습니다", emailException.getException().getMessage());
     }
 
     @Test
-    void 인증번호_만료() throws NoSuchFieldException, IllegalAccessException {
+    void 인증번호_만료() {
         // given
-        Field createDate = emailConfirm.getClass().getDeclaredField("createDate");
-        createDate.setAccessible(true);
-        createDate.set(emailConfirm, LocalDateTime.now().minusMinutes(5));
-        String code = "123456";
-        Mockito.when(emailConfirmRepository.checkCode(code)).thenReturn(Optional.ofNullable(emailConfirm));
+        Mockito.when(verificationCodeStore.verify(EMAIL, "123456")).thenReturn(VerificationCodeStatus.EXPIRED);
 
         // then
         EmailException emailException = assertThrows(EmailException.class, () -> {
-            emailService.checkCertificationCode(code);
+            emailService.checkCertificationCode(EMAIL, "123456");
         });
         assertEquals("인증번호가 만료되었습니다.", emailException.getException().getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 인증번호_시도_횟수_초과() {
+        // given
+        Mockito.when(verificationCodeStore.verify(EMAIL, "000000")).thenReturn(VerificationCodeStatus.TOO_MANY_ATTEMPTS);
+
+        // then
+        EmailException emailException = assertThrows(EmailException.class, () -> {
+            emailService.checkCertificationCode(EMAIL, "000000");
+        });
+        assertEquals("E-006", emailException.getException().getCode());
+    }
+}
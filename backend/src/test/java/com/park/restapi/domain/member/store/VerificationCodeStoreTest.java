@@ -0,0 +1,156 @@
+package com.park.restapi.domain.member.store;
+
+import com.park.restapi.domain.exception.exception.EmailException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificationCodeStoreTest {
+
+    private static final String EMAIL = "test@naver.com";
+
+    private MutableClock clock;
+    private VerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-04-01T00:00:00Z"));
+        store = new VerificationCodeStore(clock);
+    }
+
+    @Test
+    @DisplayName("발급한 인증번호는 한 번만 인증된다")
+    void verifyOnce() {
+        // given
+        String code = store.issue(EMAIL, () -> "ABCDEFGHIJ");
+
+        // when & then
+        assertEquals(VerificationCodeStatus.VERIFIED, store.verify(EMAIL, code));
+        assertEquals(VerificationCodeStatus.NOT_FOUND, store.verify(EMAIL, code));
+    }
+
+    @Test
+    @DisplayName("다른 이메일로 발급된 인증번호는 인증되지 않는다")
+    void verifyOtherEmail() {
+        // given
+        String code = store.issue(EMAIL, () -> "ABCDEFGHIJ");
+
+        // when & then
+        assertEquals(VerificationCodeStatus.NOT_FOUND, store.verify("other@naver.com", code));
+        assertEquals(VerificationCodeStatus.VERIFIED, store.verify(EMAIL, code));
+    }
+
+    @Test
+    @DisplayName("새로 발급하면 이전 인증번호는 폐기")
+    void reissue() {
+        // given
+        store.issue(EMAIL, () -> "FIRSTCODE1");
+        store.issue(EMAIL, () -> "SECONDCODE");
+
+        // when & then
+        assertEquals(VerificationCodeStatus.NOT_FOUND, store.verify(EMAIL, "FIRSTCODE1"));
+        assertEquals(VerificationCodeStatus.VERIFIED, store.verify(EMAIL, "SECONDCODE"));
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 인증번호는 만료 처리")
+    void verifyExpired() {
+        // given
+        String code = store.issue(EMAIL, () -> "ABCDEFGHIJ");
+
+        // when
+        clock.plus(VerificationCodeStore.CODE_TTL.plusSeconds(1));
+
+        // then
+        assertEquals(VerificationCodeStatus.EXPIRED, store.verify(EMAIL, code));
+    }
+
+    @Test
+    @DisplayName("인증번호를 5번 틀리면 폐기되어 맞는 번호도 인증되지 않음")
+    void tooManyAttempts() {
+        // given
+        String code = store.issue(EMAIL, () -> "ABCDEFGHIJ");
+        for (int i = 1; i < VerificationCodeStore.MAX_VERIFY_ATTEMPTS; i++) {
+            assertEquals(VerificationCodeStatus.NOT_FOUND, store.verify(EMAIL, "WRONGCODE0"));
+        }
+
+        // when & then
+        assertEquals(VerificationCodeStatus.TOO_MANY_ATTEMPTS, store.verify(EMAIL, "WRONGCODE0"));
+        assertEquals(VerificationCodeStatus.NOT_FOUND, store.verify(EMAIL, code));
+    }
+
+    @Test
+    @DisplayName("인증번호와 발송 제한이 모두 끝난 항목은 스케줄러가 정리")
+    void evictExpired() {
+        // given
+        store.issue(EMAIL, () -> "ABCDEFGHIJ");
+
+        // when
+        clock.plus(VerificationCodeStore.CODE_TTL.plusSeconds(1));
+        store.evictExpired();
+
+        // then
+        // 발송 제한 기록은 남아 있다.
+        assertEquals(1, store.size());
+
+        clock.plus(VerificationCodeStore.SEND_WINDOW);
+        store.evictExpired();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("이메일당 발송 횟수를 넘으면 예외")
+    void rateLimit() {
+        // given
+        for (int i = 0; i < VerificationCodeStore.MAX_SENDS_PER_WINDOW; i++) {
+            String code = "CODE" + i;
+            store.issue(EMAIL, () -> code);
+        }
+
+        // then
+        EmailException emailException = assertThrows(EmailException.class,
+                () -> store.issue(EMAIL, () -> "LAST"));
+        assertEquals("E-005", emailException.getException().getCode());
+        // 거절된 요청은 마지막으로 발급된 번호를 바꾸지 않는다.
+        assertEquals(VerificationCodeStatus.VERIFIED, store.verify(EMAIL, "CODE4"));
+
+        // 제한 시간이 지나면 다시 발송 가능
+        clock.plus(VerificationCodeStore.SEND_WINDOW);
+        store.evictExpired();
+        assertEquals("LAST", store.issue(EMAIL, () -> "LAST"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
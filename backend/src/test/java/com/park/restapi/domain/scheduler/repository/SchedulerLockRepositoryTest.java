@@ -0,0 +1,78 @@
+package com.park.restapi.domain.scheduler.repository;
+
+import com.park.restapi.domain.config.TestQuerydslConfiguration;
+import com.park.restapi.domain.scheduler.entity.SchedulerLock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Import(TestQuerydslConfiguration.class)
+class SchedulerLockRepositoryTest {
+
+    private static final String JOB = "coupon-generate";
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setup() {
+        now = LocalDateTime.now();
+        schedulerLockRepository.saveAndFlush(SchedulerLock.builder()
+                .name(JOB)
+                .lockedUntil(now)
+                .fencingToken(0L).build());
+    }
+
+    @Test
+    @DisplayName("만료된 잠금은 획득하고 펜싱 토큰 증가")
+    void acquireExpiredLock() {
+        // when
+        int updated = schedulerLockRepository.acquire(JOB, "node-a", now, now.plusMinutes(10));
+
+        // then
+        Assertions.assertEquals(1, updated);
+        SchedulerLock lock = schedulerLockRepository.findById(JOB).orElseThrow();
+        Assertions.assertEquals("node-a", lock.getLockedBy());
+        Assertions.assertEquals(1L, lock.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 가진 잠금은 획득 불가")
+    void acquireHeldLock() {
+        // given
+        schedulerLockRepository.acquire(JOB, "node-a", now, now.plusMinutes(10));
+
+        // when
+        int updated = schedulerLockRepository.acquire(JOB, "node-b", now.plusSeconds(1), now.plusMinutes(10));
+
+        // then
+        Assertions.assertEquals(0, updated);
+        Assertions.assertEquals("node-a", schedulerLockRepository.findById(JOB).orElseThrow().getLockedBy());
+    }
+
+    @Test
+    @DisplayName("펜싱 토큰이 다르면 해제하지 않는다")
+    void releaseWithStaleToken() {
+        // given
+        schedulerLockRepository.acquire(JOB, "node-a", now, now.plusMinutes(10));
+
+        // when
+        int stale = schedulerLockRepository.release(JOB, "node-a", 0L, now);
+        int current = schedulerLockRepository.release(JOB, "node-a", 1L, now);
+
+        // then
+        Assertions.assertEquals(0, stale);
+        Assertions.assertEquals(1, current);
+    }
+}
@@ -0,0 +1,65 @@
+package com.park.restapi.util.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongBitmapTest {
+
+    @Test
+    @DisplayName("서로 다른 구간의 값 추가, 조회, 삭제")
+    void addContainsRemove() {
+        // given
+        LongBitmap bitmap = LongBitmap.of(List.of(3L, 70_000L, 1L, 5_000_000_000L));
+
+        // when
+        bitmap.remove(70_000L);
+        bitmap.add(3L);
+
+        // then
+        assertTrue(bitmap.contains(1L));
+        assertTrue(bitmap.contains(3L));
+        assertTrue(bitmap.contains(5_000_000_000L));
+        assertFalse(bitmap.contains(70_000L));
+        assertFalse(bitmap.contains(2L));
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("값이 많아지면 비트맵으로, 다시 줄면 배열로 바뀌어도 값 유지")
+    void convertContainer() {
+        // given
+        LongBitmap bitmap = new LongBitmap();
+        LongStream.range(0, 5000).forEach(value -> bitmap.add(value * 2));
+
+        // when
+        LongStream.range(0, 1000).forEach(value -> bitmap.remove(value * 2));
+
+        // then
+        assertEquals(4000, bitmap.cardinality());
+        assertFalse(bitmap.contains(0L));
+        assertTrue(bitmap.contains(2000L));
+        assertTrue(bitmap.contains(9998L));
+        assertFalse(bitmap.contains(2001L));
+    }
+
+    @Test
+    @DisplayName("주어진 값 중 들어있는 값만 반환")
+    void retainContained() {
+        // given
+        LongBitmap bitmap = LongBitmap.of(List.of(10L, 20L, 30L));
+
+        // when
+        Set<Long> contained = bitmap.retainContained(List.of(10L, 11L, 30L));
+
+        // then
+        assertEquals(Set.of(10L, 30L), contained);
+    }
+}
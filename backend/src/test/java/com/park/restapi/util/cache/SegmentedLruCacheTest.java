@@ -0,0 +1,54 @@
+package com.park.restapi.util.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentedLruCacheTest {
+
+    @Test
+    @DisplayName("구간 용량을 넘으면 가장 오래 사용하지 않은 항목 제거")
+    void evictLeastRecentlyUsed() {
+        // given
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(2, 1);
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+
+        // when
+        cache.get(1L);
+        cache.put(3L, "third");
+
+        // then
+        assertEquals("first", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("third", cache.get(3L));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목만 제거")
+    void removeIf() {
+        // given
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(64, 4);
+        for (long i = 0; i < 10; i++) {
+            cache.put(i, i % 2 == 0 ? "even" : "odd");
+        }
+
+        // when
+        cache.removeIf((key, value) -> value.equals("odd"));
+
+        // then
+        assertEquals(5, cache.size());
+        assertEquals("even", cache.get(4L));
+        assertNull(cache.get(5L));
+    }
+
+    @Test
+    @DisplayName("구간 수가 2의 거듭제곱이 아니면 예외발생")
+    void invalidSegmentCount() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<Long, String>(16, 3));
+    }
+}
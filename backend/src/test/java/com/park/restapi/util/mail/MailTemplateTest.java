@@ -0,0 +1,64 @@
+package com.park.restapi.util.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MailTemplateTest {
+
+    @Test
+    @DisplayName("치환 위치를 파싱하고 값으로 렌더링")
+    void render() {
+        // given
+        MailTemplate template = MailTemplate.compile("<p>{{ name }}님, 인증번호: <b>{{code}}</b></p>");
+
+        // when
+        String result = template.render(Map.of("name", "테스트", "code", "AB12"));
+
+        // then
+        assertEquals(List.of("name", "code"), template.getPlaceholders());
+        assertEquals("<p>테스트님, 인증번호: <b>AB12</b></p>", result);
+    }
+
+    @Test
+    @DisplayName("치환 값은 HTML 이스케이프")
+    void renderEscaped() {
+        // given
+        MailTemplate template = MailTemplate.compile("<strong>{{inquiryTitle}}</strong>");
+
+        // when
+        String result = template.render(Map.of("inquiryTitle", "<script>alert('x')</script> & \"y\""));
+
+        // then
+        assertEquals("<strong>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;y&quot;</strong>", result);
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 이전 렌더링 결과가 섞이지 않음")
+    void renderReuseBuffer() {
+        // given
+        MailTemplate template = MailTemplate.compile("[{{value}}]");
+
+        // when
+        String first = template.render(Map.of("value", "long-long-value"));
+        String second = template.render(Map.of("value", "s"));
+
+        // then
+        assertEquals("[long-long-value]", first);
+        assertEquals("[s]", second);
+    }
+
+    @Test
+    @DisplayName("치환 값이 없거나 닫히지 않은 치환 위치는 예외 발생")
+    void invalidTemplate() {
+        MailTemplate template = MailTemplate.compile("{{value}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("<p>{{value</p>"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.park.restapi.util.timer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("마감 시각이 지난 틱에서 항목 처리")
+    void advance() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("a", 2000);
+        wheel.schedule("b", 5000);
+        List<String> expired = new ArrayList<>();
+
+        // when
+        wheel.advance(3000, expired::add);
+
+        // then
+        Assertions.assertEquals(List.of("a"), expired);
+    }
+
+    @Test
+    @DisplayName("처리 중에 등록한 지난 마감 시각 항목은 한 바퀴 기다리지 않고 다음 틱에 처리")
+    void scheduleWhileAdvancing() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("a", 1000);
+        List<String> expired = new ArrayList<>();
+
+        // when : a 를 처리하는 동안 이미 지난 마감 시각으로 b 등록
+        wheel.advance(1000, item -> {
+            expired.add(item);
+            if (item.equals("a")) {
+                wheel.schedule("b", 0);
+            }
+        });
+        wheel.advance(2000, expired::add);
+
+        // then
+        Assertions.assertEquals(List.of("a", "b"), expired);
+    }
+}
@@ -0,0 +1,164 @@
+package com.park.restapi.util.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WebSocketBroadcastHubTest {
+
+    private WebSocketBroadcastHub broadcastHub;
+
+    @BeforeEach
+    void setUp() {
+        // 전송을 호출한 스레드에서 바로 실행
+        broadcastHub = new WebSocketBroadcastHub(Runnable::run, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트는 같은 메시지 객체를 모든 세션에 전송")
+    void broadcastSharesMessage() throws IOException {
+        // given
+        WebSocketSession first = openSession("1");
+        WebSocketSession second = openSession("2");
+        broadcastHub.register(first);
+        broadcastHub.register(second);
+
+        // when
+        broadcastHub.broadcast("hello");
+
+        // then
+        verify(first).sendMessage(any(TextMessage.class));
+        verify(second).sendMessage(any(TextMessage.class));
+    }
+
+    @Test
+    @DisplayName("닫힌 세션은 전송하지 않고 제거")
+    void closedSessionRemoved() throws IOException {
+        // given
+        WebSocketSession closed = openSession("1");
+        broadcastHub.register(closed);
+        when(closed.isOpen()).thenReturn(false);
+
+        // when
+        broadcastHub.broadcast("hello");
+
+        // then
+        verify(closed, never()).sendMessage(any());
+        assertEquals(0, broadcastHub.size());
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 세션은 닫고 제거")
+    void failedSessionRemoved() throws IOException {
+        // given
+        WebSocketSession broken = openSession("1");
+        WebSocketSession healthy = openSession("2");
+        doThrow(new IOException("Broken pipe")).when(broken).sendMessage(any());
+        broadcastHub.register(broken);
+        broadcastHub.register(healthy);
+
+        // when
+        broadcastHub.broadcast("hello");
+
+        // then
+        verify(broken).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(healthy).sendMessage(any(TextMessage.class));
+        assertEquals(1, broadcastHub.size());
+    }
+
+    @Test
+    @DisplayName("토픽 발행은 구독한 세션에만 전송")
+    void publishToSubscribers() throws IOException {
+        // given
+        WebSocketSession subscriber = openSession("1");
+        WebSocketSession other = openSession("2");
+        broadcastHub.register(subscriber);
+        broadcastHub.register(other);
+        broadcastHub.subscribe("1", WebSocketTopic.post(10L));
+
+        // when
+        broadcastHub.publish(WebSocketTopic.post(10L), "{}");
+
+        // then
+        verify(subscriber).sendMessage(any(TextMessage.class));
+        verify(other, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 세션은 구독에서도 제거")
+    void unregisterRemovesSubscriptions() throws IOException {
+        // given
+        WebSocketSession subscriber = openSession("1");
+        broadcastHub.register(subscriber);
+        broadcastHub.subscribe("1", WebSocketTopic.COUPON);
+
+        // when
+        broadcastHub.unregister("1");
+        broadcastHub.publish(WebSocketTopic.COUPON, "{}");
+
+        // then
+        verify(subscriber, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("느린 세션의 전송은 다른 세션의 전송을 막지 않음")
+    void slowSessionDoesNotBlockOthers() throws IOException {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        broadcastHub = new WebSocketBroadcastHub(tasks::add, new SimpleMeterRegistry());
+        WebSocketSession slow = openSession("1");
+        WebSocketSession fast = openSession("2");
+        broadcastHub.register(slow);
+        broadcastHub.register(fast);
+
+        // when
+        broadcastHub.broadcast("hello");
+        tasks.get(1).run();
+
+        // then
+        assertEquals(2, tasks.size());
+        verify(fast).sendMessage(any(TextMessage.class));
+        verify(slow, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("보내지 못하고 쌓인 메시지가 한계를 넘으면 연결 종료")
+    void closeWhenBufferFull() throws IOException {
+        // given
+        broadcastHub = new WebSocketBroadcastHub(task -> {
+        }, new SimpleMeterRegistry());
+        WebSocketSession stuck = openSession("1");
+        broadcastHub.register(stuck);
+        String payload = "x".repeat(WebSocketBroadcastHub.BUFFER_SIZE_LIMIT / 2);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            broadcastHub.broadcast(payload);
+        }
+
+        // then
+        verify(stuck).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(0, broadcastHub.size());
+    }
+
+    private WebSocketSession openSession(String id) throws IOException {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        lenient().when(session.isOpen()).thenReturn(true);
+        lenient().doNothing().when(session).sendMessage(any(WebSocketMessage.class));
+        return session;
+    }
+}
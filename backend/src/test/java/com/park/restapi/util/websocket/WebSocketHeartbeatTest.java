@@ -0,0 +1,82 @@
+package com.park.restapi.util.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Clock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WebSocketHeartbeatTest {
+
+    private static final String SESSION_ID = "1";
+
+    private WebSocketBroadcastHub broadcastHub;
+    private Clock clock;
+    private long now;
+    private WebSocketHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        broadcastHub = mock(WebSocketBroadcastHub.class);
+        when(broadcastHub.getSession(SESSION_ID)).thenReturn(mock(WebSocketSession.class));
+
+        now = 1_000_000L;
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now);
+
+        heartbeat = new WebSocketHeartbeat(broadcastHub, new SimpleMeterRegistry(), clock);
+        heartbeat.register(SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("조용한 세션에 ping 전송")
+    void pingQuietSession() {
+        // when
+        advance(WebSocketHeartbeat.PING_INTERVAL_MILLIS);
+
+        // then
+        verify(broadcastHub).send(any(WebSocketSession.class), any(PingMessage.class));
+        verify(broadcastHub, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("pong 이 계속 오지 않으면 세션 정리")
+    void evictAfterMissedPongs() {
+        // when
+        for (int i = 0; i <= WebSocketHeartbeat.MAX_MISSED_PONGS; i++) {
+            advance(WebSocketHeartbeat.PING_INTERVAL_MILLIS);
+        }
+
+        // then
+        verify(broadcastHub, times(WebSocketHeartbeat.MAX_MISSED_PONGS)).send(any(WebSocketSession.class), any(PingMessage.class));
+        verify(broadcastHub).evict(eq(SESSION_ID));
+    }
+
+    @Test
+    @DisplayName("pong 을 받으면 정리하지 않는다")
+    void pongKeepsSession() {
+        // when
+        for (int i = 0; i <= WebSocketHeartbeat.MAX_MISSED_PONGS; i++) {
+            advance(WebSocketHeartbeat.PING_INTERVAL_MILLIS);
+            heartbeat.touch(SESSION_ID);
+        }
+
+        // then
+        verify(broadcastHub, never()).evict(any());
+    }
+
+    // 1초 단위로 시간을 흘리면서 스케줄러 실행
+    private void advance(long millis) {
+        for (long elapsed = 0; elapsed < millis; elapsed += 1000) {
+            now += 1000;
+            heartbeat.tick();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.park.restapi.util.websocket.backplane;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BackplaneMessageTest {
+
+    @Test
+    @DisplayName("직렬화한 메시지를 그대로 복원")
+    void encodeDecode() throws IOException {
+        // given
+        BackplaneMessage message = new BackplaneMessage("node-1", "post:1", "{\"likeCount\":3,\"title\":\"한글 제목\"}");
+
+        // when
+        byte[] packet = message.encode();
+        BackplaneMessage decoded = BackplaneMessage.decode(packet, 0, packet.length);
+
+        // then
+        assertEquals(message, decoded);
+    }
+
+    @Test
+    @DisplayName("수신 버퍼의 일부만 사용해도 복원")
+    void decodeWithOffset() throws IOException {
+        // given
+        byte[] packet = new BackplaneMessage("node-1", "coupon", "{}").encode();
+        byte[] buffer = new byte[packet.length + 10];
+        System.arraycopy(packet, 0, buffer, 5, packet.length);
+
+        // when
+        BackplaneMessage decoded = BackplaneMessage.decode(buffer, 5, packet.length);
+
+        // then
+        assertEquals("coupon", decoded.topic());
+    }
+
+    @Test
+    @DisplayName("잘린 패킷은 예외")
+    void truncatedPacket() {
+        // given
+        byte[] packet = new BackplaneMessage("node-1", "coupon", "{\"remaining\":10}").encode();
+        byte[] truncated = Arrays.copyOf(packet, packet.length - 3);
+
+        // then
+        assertThrows(IOException.class, () -> BackplaneMessage.decode(truncated, 0, truncated.length));
+    }
+}
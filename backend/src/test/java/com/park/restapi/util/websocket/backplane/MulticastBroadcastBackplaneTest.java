@@ -0,0 +1,117 @@
+package com.park.restapi.util.websocket.backplane;
+
+import com.park.restapi.util.websocket.WebSocketBroadcastHub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 루프백 인터페이스의 멀티캐스트 그룹에 두 서버를 띄워서 실제 전송을 확인
+class MulticastBroadcastBackplaneTest {
+
+    private static final String GROUP = "239.10.0.99";
+    private static final String LOOPBACK = "lo";
+    private static final long RECEIVE_TIMEOUT_MILLIS = 2000;
+    private static final String SECRET = "backplane-test-secret";
+
+    private WebSocketBroadcastHub senderHub;
+    private WebSocketBroadcastHub receiverHub;
+    private MulticastBroadcastBackplane sender;
+    private MulticastBroadcastBackplane receiver;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        senderHub = mock(WebSocketBroadcastHub.class);
+        receiverHub = mock(WebSocketBroadcastHub.class);
+        sender = new MulticastBroadcastBackplane(senderHub, GROUP, port, LOOPBACK, SECRET);
+        receiver = new MulticastBroadcastBackplane(receiverHub, GROUP, port, LOOPBACK, SECRET);
+        try {
+            sender.start();
+            receiver.start();
+        } catch (IOException e) {
+            assumeTrue(false, "루프백 멀티캐스트를 사용할 수 없는 환경 : " + e.getMessage());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.stop();
+        receiver.stop();
+    }
+
+    @Test
+    @DisplayName("발행한 메시지는 다른 서버의 세션에 전달")
+    void deliverToOtherNode() {
+        // when
+        sender.publish("post:1", "{\"viewCount\":3}");
+
+        // then
+        verify(receiverHub, timeout(RECEIVE_TIMEOUT_MILLIS)).deliverLocal("post:1", "{\"viewCount\":3}");
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 메시지는 다시 받아도 한 번만 전달")
+    void ignoreOwnMessage() {
+        // when
+        sender.publish("coupon", "{}");
+
+        // then
+        verify(receiverHub, timeout(RECEIVE_TIMEOUT_MILLIS)).deliverLocal("coupon", "{}");
+        verify(senderHub, times(1)).deliverLocal("coupon", "{}");
+    }
+
+    @Test
+    @DisplayName("너무 큰 메시지는 자기 세션에만 전달")
+    void oversizedMessageStaysLocal() {
+        // given
+        String payload = "x".repeat(MulticastBroadcastBackplane.MAX_PACKET_SIZE);
+
+        // when
+        sender.publish("coupon", payload);
+        sender.publish("coupon", "{}");
+
+        // then
+        verify(receiverHub, timeout(RECEIVE_TIMEOUT_MILLIS)).deliverLocal("coupon", "{}");
+        verify(receiverHub, never()).deliverLocal(anyString(), eq(payload));
+        verify(senderHub).deliverLocal("coupon", payload);
+    }
+
+    @Test
+    @DisplayName("서명이 없거나 다른 비밀키로 서명한 패킷은 전달하지 않음")
+    void dropUnsignedPacket() throws IOException {
+        // given
+        MulticastBroadcastBackplane forger = new MulticastBroadcastBackplane(mock(WebSocketBroadcastHub.class),
+                GROUP, port, LOOPBACK, "other-secret");
+        forger.start();
+        byte[] unsigned = new BackplaneMessage("forger", "user:1", "{\"forged\":true}").encode();
+
+        // when
+        try (MulticastSocket socket = new MulticastSocket()) {
+            socket.setNetworkInterface(NetworkInterface.getByName(LOOPBACK));
+            socket.send(new DatagramPacket(unsigned, unsigned.length, InetAddress.getByName(GROUP), port));
+        }
+        forger.publish("user:1", "{\"forged\":true}");
+        forger.stop();
+        sender.publish("coupon", "{}");
+
+        // then
+        verify(receiverHub, timeout(RECEIVE_TIMEOUT_MILLIS)).deliverLocal("coupon", "{}");
+        verify(receiverHub, never()).deliverLocal(eq("user:1"), anyString());
+    }
+}
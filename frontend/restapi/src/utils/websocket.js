@@ -0,0 +1,74 @@
+import axios from "./axios";
+
+// 서버 웹소켓 연결 하나를 모든 화면이 공유한다.
+let socket = null;
+let opening = null;
+// 이벤트 타입별 핸들러
+const handlers = new Map();
+// 구독 응답을 기다리는 요청(토픽별)
+const pendingSubscribes = new Map();
+
+const socketUrl = () =>
+  axios.defaults.baseURL.replace(/^http/, "ws").replace(/\/$/, "") + "/ws";
+
+// 연결, 이미 연결돼 있으면 그대로 사용
+const connect = () => {
+  if (socket && socket.readyState === WebSocket.OPEN) {
+    return Promise.resolve(socket);
+  }
+  if (opening) {
+    return opening;
+  }
+
+  opening = new Promise((resolve, reject) => {
+    const ws = new WebSocket(socketUrl());
+    ws.onopen = () => {
+      socket = ws;
+      opening = null;
+      resolve(ws);
+    };
+    ws.onerror = () => {
+      opening = null;
+      reject(new Error("웹소켓 연결 실패"));
+    };
+    ws.onclose = () => {
+      if (socket === ws) socket = null;
+      pendingSubscribes.forEach((resolve) => resolve(false));
+      pendingSubscribes.clear();
+    };
+    ws.onmessage = (message) => {
+      let event;
+      try {
+        event = JSON.parse(message.data);
+      } catch (error) {
+        return;
+      }
+
+      if (pendingSubscribes.has(event.topic) && event.type !== "unsubscribed") {
+        pendingSubscribes.get(event.topic)(event.type === "subscribed");
+        pendingSubscribes.delete(event.topic);
+        return;
+      }
+      (handlers.get(event.type) || []).forEach((handler) => handler(event.data));
+    };
+  });
+  return opening;
+};
+
+// 토픽 구독, 서버가 구독을 받아들이면 true
+const subscribe = async (topic) => {
+  const ws = await connect();
+  return new Promise((resolve) => {
+    pendingSubscribes.set(topic, resolve);
+    ws.send(JSON.stringify({ type: "subscribe", topic }));
+  });
+};
+
+// 이벤트 타입별 핸들러 등록, 반환한 함수로 해제
+const onEvent = (type, handler) => {
+  if (!handlers.has(type)) handlers.set(type, new Set());
+  handlers.get(type).add(handler);
+  return () => handlers.get(type).delete(handler);
+};
+
+export { connect, subscribe, onEvent };